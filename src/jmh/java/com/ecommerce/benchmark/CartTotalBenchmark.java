@@ -0,0 +1,40 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.entity.CartItem;
+import com.ecommerce.service.CartService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartTotalBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int lines;
+
+    private List<CartItem> items;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            items.add(CartItem.builder()
+                    .product(Fixtures.product(i + 1, "149.99"))
+                    .quantity(1 + i % 3)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public BigDecimal cartTotal() {
+        return CartService.calculateTotal(items);
+    }
+}
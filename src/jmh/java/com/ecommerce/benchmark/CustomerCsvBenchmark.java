@@ -0,0 +1,98 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.dto.CustomerDashboardDto;
+import com.ecommerce.dto.OrderExportRow;
+import com.ecommerce.dto.WarrantyExportRow;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.Warranty;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.WarrantyRepository;
+import com.ecommerce.service.CustomerDashboardService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The customer CSV export as production runs it, with 20 orders of 3 lines
+ * each and a warranty per line. The repositories hand back prepared
+ * projection rows and the output is discarded, so only the formatting is
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerCsvBenchmark {
+
+    private CustomerDashboardService service;
+    private CustomerDashboardDto summary;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderExportRow> orderLines = new ArrayList<>();
+        List<WarrantyExportRow> warranties = new ArrayList<>();
+        for (int o = 0; o < 20; o++) {
+            String orderNumber = "ORD-20240101-" + o;
+            for (int i = 0; i < 3; i++) {
+                orderLines.add(new OrderExportRow((long) o, orderNumber, 2L, "rahul@example.com",
+                        Order.OrderStatus.DELIVERED, Order.PaymentStatus.PAID, "COD",
+                        new BigDecimal("899.94"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                        new BigDecimal("899.94"), "Mumbai", "MH", "India", null, null,
+                        now.minusDays(o * 7L), null, (long) (o * 3 + i), (long) i, "SKU-" + i,
+                        "Cordless Drill " + i, 2, new BigDecimal("149.99"), new BigDecimal("299.98")));
+                LocalDate start = now.minusMonths(o).toLocalDate();
+                warranties.add(new WarrantyExportRow((long) (o * 3 + i), "WRN-" + o + "-" + i, "SN-" + o + "-" + i,
+                        (long) i, "SKU-" + i, "Cordless Drill " + i, 2L, "rahul@example.com", orderNumber,
+                        start, start, now.plusMonths(12 - o).toLocalDate(), Warranty.WarrantyStatus.ACTIVE,
+                        false, 0));
+            }
+        }
+
+        OrderRepository orders = stub(OrderRepository.class, "streamOrderLinesByUserId", orderLines);
+        WarrantyRepository warrantyRepository = stub(WarrantyRepository.class, "streamWarrantiesByUserId", warranties);
+        service = new CustomerDashboardService(null, orders, warrantyRepository, null, null);
+
+        summary = CustomerDashboardDto.builder()
+                .customerId(2L)
+                .name("Rahul Sharma")
+                .email("rahul@example.com")
+                .phone("+91 98765 43211")
+                .address("123 MG Road")
+                .city("Mumbai")
+                .state("MH")
+                .zipCode("400001")
+                .country("India")
+                .memberSince(now.minusYears(2))
+                .totalOrders(20)
+                .totalSpent(new BigDecimal("17998.80"))
+                .averageOrderValue(new BigDecimal("899.94"))
+                .build();
+    }
+
+    @Benchmark
+    public void exportCustomerDataCsv() throws IOException {
+        service.exportCustomerDataCsv(summary, Writer.nullWriter());
+    }
+
+    // A repository whose only working method streams the given rows
+    private static <R> R stub(Class<R> repository, String method, List<?> rows) {
+        return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, invoked, args) -> {
+                    if (invoked.getName().equals(method)) {
+                        return rows.stream();
+                    }
+                    throw new UnsupportedOperationException(invoked.getName());
+                }));
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.entity.Discount;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscountBenchmark {
+
+    private Discount percentage;
+    private Discount fixedAmount;
+    private BigDecimal orderTotal;
+    private BigDecimal belowMinimum;
+
+    @Setup
+    public void setUp() {
+        percentage = discount(Discount.DiscountType.PERCENTAGE, "15");
+        percentage.setMaximumDiscountAmount(new BigDecimal("100"));
+        fixedAmount = discount(Discount.DiscountType.FIXED_AMOUNT, "25");
+        orderTotal = new BigDecimal("849.97");
+        belowMinimum = new BigDecimal("19.99");
+    }
+
+    @Benchmark
+    public BigDecimal percentageCapped() {
+        return percentage.calculateDiscount(orderTotal);
+    }
+
+    @Benchmark
+    public BigDecimal fixedAmount() {
+        return fixedAmount.calculateDiscount(orderTotal);
+    }
+
+    @Benchmark
+    public BigDecimal belowMinimumOrder() {
+        return percentage.calculateDiscount(belowMinimum);
+    }
+
+    private static Discount discount(Discount.DiscountType type, String value) {
+        return Discount.builder()
+                .code("BENCH" + type.ordinal())
+                .name("Benchmark")
+                .type(type)
+                .value(new BigDecimal(value))
+                .minimumOrderAmount(new BigDecimal("50"))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusYears(1))
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.dto.CategoryDto;
+import com.ecommerce.dto.OrderDto;
+import com.ecommerce.dto.ProductDto;
+import com.ecommerce.entity.Category;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done for every product card, order row and
+ * category in a response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Product product;
+    private Order order;
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        product = Fixtures.product(1, "299.99");
+        order = Fixtures.order(3);
+        category = Fixtures.category();
+    }
+
+    @Benchmark
+    public ProductDto productFromEntity() {
+        return ProductDto.fromEntity(product);
+    }
+
+    @Benchmark
+    public OrderDto orderFromEntity() {
+        return OrderDto.fromEntity(order);
+    }
+
+    @Benchmark
+    public CategoryDto categoryFromEntity() {
+        return CategoryDto.fromEntity(category);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.entity.Category;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.OrderItem;
+import com.ecommerce.entity.Product;
+import com.ecommerce.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Detached entities shaped like the seed data, shared by the benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Category category() {
+        Category parent = Category.builder().id(1L).name("Tools").displayOrder(1).build();
+        Category category = Category.builder()
+                .id(2L)
+                .name("Power Tools")
+                .description("Drills, saws and grinders")
+                .parent(parent)
+                .displayOrder(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+        for (long i = 0; i < 4; i++) {
+            category.getSubCategories().add(Category.builder().id(10 + i).name("Sub " + i).parent(category).build());
+        }
+        return category;
+    }
+
+    static Product product(long id, String price) {
+        return Product.builder()
+                .id(id)
+                .name("Cordless Drill " + id)
+                .description("18V brushless cordless drill with two batteries")
+                .sku("SKU-" + id)
+                .brand("Kenway")
+                .price(new BigDecimal(price))
+                .originalPrice(new BigDecimal(price).add(BigDecimal.TEN))
+                .stockQuantity(50)
+                .category(category())
+                .color("Black")
+                .size("M")
+                .imageUrl("/images/products/" + id + ".jpg")
+                .additionalImages(Set.of("/images/products/" + id + "-1.jpg", "/images/products/" + id + "-2.jpg"))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    static User user() {
+        return User.builder()
+                .id(2L)
+                .name("Rahul Sharma")
+                .email("rahul@example.com")
+                .phone("+91 98765 43211")
+                .role(User.Role.CUSTOMER)
+                .build();
+    }
+
+    static Order order(int items) {
+        Order order = Order.builder()
+                .id(100L)
+                .orderNumber("ORD-20240101-ABCDEF12")
+                .user(user())
+                .status(Order.OrderStatus.CONFIRMED)
+                .paymentStatus(Order.PaymentStatus.PAID)
+                .shippingName("Rahul Sharma")
+                .shippingAddress("123 MG Road")
+                .shippingCity("Mumbai")
+                .shippingState("MH")
+                .shippingZipCode("400001")
+                .shippingCountry("India")
+                .shippingPhone("+91 98765 43211")
+                .createdAt(LocalDateTime.now())
+                .build();
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (int i = 0; i < items; i++) {
+            Product product = product(i + 1, "149.99");
+            OrderItem item = OrderItem.builder()
+                    .id((long) i + 1)
+                    .product(product)
+                    .productName(product.getName())
+                    .productSku(product.getSku())
+                    .quantity(2)
+                    .unitPrice(product.getPrice())
+                    .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(2)))
+                    .build();
+            order.addItem(item);
+            subtotal = subtotal.add(item.getTotalPrice());
+        }
+        order.setSubtotal(subtotal);
+        order.setTotalAmount(subtotal);
+        return order;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.entity.User;
+import com.ecommerce.security.CustomUserPrincipal;
+import com.ecommerce.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login and verification on every authenticated request
+ * that misses the principal cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = new JwtTokenProvider();
+        set("jwtSecret", "benchmarkSecretKeyThatIsLongEnoughForHS512SignaturesToBeAccepted0123456789");
+        set("jwtExpiration", 86_400_000L);
+        Method init = JwtTokenProvider.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(tokenProvider);
+
+        user = Fixtures.user();
+        token = tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public CustomUserPrincipal validate() {
+        Claims claims = tokenProvider.parseClaims(token);
+        return tokenProvider.getPrincipalFromClaims(claims);
+    }
+
+    // The provider is normally configured through @Value fields
+    private void set(String name, Object value) throws Exception {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(tokenProvider, value);
+    }
+}
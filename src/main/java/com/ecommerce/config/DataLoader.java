@@ -2,9 +2,11 @@ package com.ecommerce.config;
 
 import com.ecommerce.entity.*;
 import com.ecommerce.repository.*;
+import com.ecommerce.search.CustomerSearchIndexer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -15,7 +17,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
+// The datagen and fastboot profiles load their own data instead
 @Component
+@Profile("!datagen & !fastboot")
 @RequiredArgsConstructor
 @Slf4j
 public class DataLoader implements CommandLineRunner {
@@ -29,6 +33,7 @@ public class DataLoader implements CommandLineRunner {
     private final ItemCategoryRepository itemCategoryRepository;
     private final InventoryItemRepository inventoryItemRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomerSearchIndexer customerSearchIndexer;
     
     @Override
     public void run(String... args) {
@@ -319,6 +324,7 @@ public class DataLoader implements CommandLineRunner {
                 .enabled(true)
                 .build();
         userRepository.save(admin);
+        customerSearchIndexer.index(admin);
         
         // Sample Customers
         List<User> customers = Arrays.asList(
@@ -352,6 +358,7 @@ public class DataLoader implements CommandLineRunner {
                 .build()
         );
         userRepository.saveAll(customers);
+        customers.forEach(customerSearchIndexer::index);
         
         log.info("Loaded {} users", userRepository.count());
     }
@@ -0,0 +1,127 @@
+package com.ecommerce.config;
+
+import com.ecommerce.monitoring.StatementCountingDataSource;
+import com.ecommerce.replica.ReadWriteRoutingDataSource;
+import com.ecommerce.replica.ReadYourWritesTracker;
+import com.ecommerce.replica.ReplicaLagMonitor;
+import com.ecommerce.replica.ReplicaNode;
+import com.ecommerce.replica.ReplicaProperties;
+import com.ecommerce.workload.WorkloadClass;
+import com.ecommerce.workload.WorkloadProperties;
+import com.ecommerce.workload.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One Hikari pool per workload class behind a routing data source, so a
+ * slow admin report can only exhaust the admin pool. When read replicas are
+ * configured each workload class also gets a pool per replica, and its
+ * read-only transactions are routed there. Statements are counted per
+ * request on the way through.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DataSourceConfig {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final WorkloadProperties workloadProperties;
+    private final ReplicaProperties replicaProperties;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    @Primary
+    public StatementCountingDataSource dataSource() {
+        boolean useReplicas = replicaProperties.isEnabled() && !replicaProperties.getNodes().isEmpty();
+        List<HikariDataSource> pools = new ArrayList<>();
+        Map<WorkloadClass, DataSource> targets = new EnumMap<>(WorkloadClass.class);
+        List<ReplicaNode> nodes = new ArrayList<>();
+        if (useReplicas) {
+            // Lag checks get their own single connection per replica so they
+            // never wait behind, or hold, a request's connection
+            for (int i = 0; i < replicaProperties.getNodes().size(); i++) {
+                ReplicaProperties.Node config = replicaProperties.getNodes().get(i);
+                HikariDataSource monitorPool = replicaPool(nodeName(config, i) + "-monitor-pool",
+                        new WorkloadProperties.Settings(1, 0, 1, 1000), config);
+                pools.add(monitorPool);
+                nodes.add(new ReplicaNode(nodeName(config, i), monitorPool));
+            }
+        }
+
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            String workload = workloadClass.name().toLowerCase();
+            WorkloadProperties.Settings settings = workloadProperties.get(workloadClass);
+
+            HikariDataSource primary = pool(workload + "-pool", settings,
+                    dataSourceProperties.getUrl(), dataSourceProperties.getUsername(),
+                    dataSourceProperties.getPassword());
+            pools.add(primary);
+            if (!useReplicas) {
+                targets.put(workloadClass, primary);
+                continue;
+            }
+
+            List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                ReplicaProperties.Node config = replicaProperties.getNodes().get(i);
+                HikariDataSource replicaPool = replicaPool(workload + "-" + nodeName(config, i) + "-pool",
+                        settings, config);
+                pools.add(replicaPool);
+                replicas.add(new ReadWriteRoutingDataSource.Replica(nodes.get(i), replicaPool));
+            }
+
+            LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(workload, primary, replicas, readYourWritesTracker,
+                            replicaProperties.isFallbackToPrimary(), meterRegistry));
+            lazy.setDefaultAutoCommit(true);
+            lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            targets.put(workloadClass, lazy);
+        }
+
+        nodes.forEach(replicaLagMonitor::register);
+        return new StatementCountingDataSource(new WorkloadRoutingDataSource(targets, pools));
+    }
+
+    private HikariDataSource replicaPool(String name, WorkloadProperties.Settings settings,
+                                         ReplicaProperties.Node config) {
+        HikariDataSource pool = pool(name, settings, config.getUrl(),
+                config.getUsername() != null ? config.getUsername() : dataSourceProperties.getUsername(),
+                config.getPassword() != null ? config.getPassword() : dataSourceProperties.getPassword());
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    private static String nodeName(ReplicaProperties.Node config, int index) {
+        return config.getName() != null ? config.getName() : "replica-" + (index + 1);
+    }
+
+    private HikariDataSource pool(String name, WorkloadProperties.Settings settings,
+                                  String url, String username, String password) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(settings.getPoolSize());
+        pool.setConnectionTimeout(settings.getConnectionTimeoutMs());
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables @Timed on service methods. Endpoint latency comes from the
+ * built-in http.server.requests timer; histogram settings live under
+ * management.metrics in application.yml.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Credentials a Prometheus server uses to scrape /actuator/prometheus with
+ * HTTP Basic. Without a password only admins can read the endpoint.
+ */
+@Component
+@ConfigurationProperties(prefix = "metrics.scrape")
+@Data
+public class MetricsScrapeProperties {
+
+    private String username = "prometheus";
+
+    private String password;
+}
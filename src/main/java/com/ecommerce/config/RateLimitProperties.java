@@ -0,0 +1,45 @@
+package com.ecommerce.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per route group request limits. The route groups themselves are declared
+ * in {@link SecurityConfig}; groups without an entry use the defaults.
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound on tracked clients per route group
+    private int maxKeys = 100_000;
+
+    private Limit defaults = new Limit(10, 20);
+
+    private Map<String, Limit> groups = new HashMap<>();
+
+    public Limit getLimit(String group) {
+        return groups.getOrDefault(group, defaults);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        // Sustained requests per second per client
+        private double rate;
+
+        // Requests a client may send back-to-back before being throttled
+        private int burst;
+    }
+}
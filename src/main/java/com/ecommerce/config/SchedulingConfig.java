@@ -0,0 +1,28 @@
+package com.ecommerce.config;
+
+import com.ecommerce.workload.WorkloadClass;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerCustomizer;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs @Scheduled jobs as background work on the admin connection pool,
+ * whether the scheduler uses a thread pool or virtual threads.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    // This scheduler has no task decorator hook before Spring 6.2, but its
+    // threads run nothing except scheduled jobs, so each one runs as admin
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer backgroundWorkloadScheduler() {
+        return scheduler -> scheduler.setThreadFactory(
+                runnable -> scheduler.createThread(WorkloadClass.background(runnable)));
+    }
+
+    @Bean
+    public SimpleAsyncTaskSchedulerCustomizer backgroundWorkloadVirtualScheduler() {
+        return scheduler -> scheduler.setTaskDecorator(WorkloadClass::background);
+    }
+}
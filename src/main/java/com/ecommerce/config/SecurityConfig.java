@@ -1,14 +1,22 @@
 package com.ecommerce.config;
 
+import com.ecommerce.security.BoundedPasswordEncoder;
 import com.ecommerce.security.JwtAuthenticationFilter;
+import com.ecommerce.security.PasswordHashingExecutor;
+import com.ecommerce.security.RateLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,9 +24,11 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -36,6 +46,37 @@ public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final MetricsScrapeProperties metricsScrapeProperties;
+    
+    /**
+     * Security filter chain for actuator endpoints. Health is public; the
+     * Prometheus scrape takes the metrics.scrape user over HTTP Basic or an
+     * admin JWT, and everything else is admin-only. Basic checks only the
+     * scrape user, so this unthrottled chain cannot be used to guess account
+     * passwords.
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/actuator/**")
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS")
+                .anyRequest().hasRole("ADMIN")
+            )
+            .httpBasic(Customizer.withDefaults())
+            .authenticationManager(new ProviderManager(metricsScrapeProvider()))
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        
+        return http.build();
+    }
     
     /**
      * Security filter chain for Admin Panel with Form-based login
@@ -108,6 +149,7 @@ public class SecurityConfig {
                 // Public endpoints
                 .requestMatchers("/", "/index", "/shop/**", "/product/**", "/cart/**").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/api/guest-cart/**").permitAll()
                 .requestMatchers("/api/products/**").permitAll()
                 .requestMatchers("/api/categories/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/discounts/validate/**").permitAll()
@@ -125,11 +167,35 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter(), JwtAuthenticationFilter.class);
         
         return http.build();
     }
     
+    /**
+     * Route groups for per-client rate limiting; limits per group are set
+     * under rate-limit.groups in application.yml
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimitProperties, meterRegistry, objectMapper)
+                .routeGroup("auth", "/api/auth/login", "/api/auth/register", "/api/auth/register/admin")
+                .routeGroup("discount-validation", "/api/discounts/validate/**")
+                .routeGroup("order-tracking", "/api/orders/track/**")
+                .routeGroup("warranty-lookup", "/api/warranties/lookup")
+                .routeGroup("catalog", "/api/products/**", "/api/categories/**");
+    }
+    
+    // Only run the rate limiter inside the security chain, not a second
+    // time as a plain servlet filter
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+    
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -138,6 +204,27 @@ public class SecurityConfig {
         return authProvider;
     }
     
+    // The scrape user exists only when a password is configured
+    private AuthenticationProvider metricsScrapeProvider() {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        String password = metricsScrapeProperties.getPassword();
+        // Property binding leaves an unresolved ${...} in place rather than
+        // failing, which would make the placeholder text the password
+        if (password != null && password.startsWith("${")) {
+            throw new IllegalStateException("metrics.scrape.password is not set, export METRICS_SCRAPE_PASSWORD");
+        }
+        if (password != null && !password.isBlank()) {
+            users.createUser(User.withUsername(metricsScrapeProperties.getUsername())
+                    .password(passwordEncoder().encode(password))
+                    .roles("METRICS")
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(users);
+        provider.setPasswordEncoder(passwordEncoder());
+        return provider;
+    }
+    
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
@@ -145,7 +232,8 @@ public class SecurityConfig {
     
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // BCrypt runs on a bounded pool rather than on the request thread
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
     
     @Bean
@@ -153,8 +241,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "X-Guest-Cart"));
+        configuration.setExposedHeaders(List.of("Authorization", "X-Guest-Cart"));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -2,6 +2,7 @@ package com.ecommerce.controller;
 
 import com.ecommerce.entity.InventoryItem;
 import com.ecommerce.entity.ItemCategory;
+import com.ecommerce.monitoring.SqlBudget;
 import com.ecommerce.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,6 +16,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import java.time.LocalDate;
 import java.util.Map;
 
+@SqlBudget(5)
 @Controller
 @RequestMapping("/admin")
 @RequiredArgsConstructor
@@ -34,6 +36,7 @@ public class AdminInventoryController {
      * Admin home - shows categories
      */
     @GetMapping
+    @SqlBudget(20)
     public String adminHome(Model model) {
         model.addAttribute("categories", inventoryService.getAllCategories());
         model.addAttribute("stats", inventoryService.getDashboardStats());
@@ -44,6 +47,7 @@ public class AdminInventoryController {
      * Dashboard - view all items
      */
     @GetMapping("/inventory-dashboard")
+    @SqlBudget(20)
     public String inventoryDashboard(Model model) {
         Map<String, Object> stats = inventoryService.getDashboardStats();
         model.addAttribute("stats", stats);
@@ -56,6 +60,7 @@ public class AdminInventoryController {
     @GetMapping("/categories")
     public String listCategories(Model model) {
         model.addAttribute("categories", inventoryService.getAllCategories());
+        model.addAttribute("itemCounts", inventoryService.getItemCountsByCategory());
         return "admin/categories";
     }
 
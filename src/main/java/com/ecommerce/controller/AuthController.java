@@ -6,6 +6,8 @@ import com.ecommerce.dto.auth.LoginRequest;
 import com.ecommerce.dto.auth.RegisterRequest;
 import com.ecommerce.entity.User;
 import com.ecommerce.security.JwtTokenProvider;
+import com.ecommerce.service.CartService;
+import com.ecommerce.service.GuestCartService;
 import com.ecommerce.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -23,6 +27,8 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final JwtTokenProvider tokenProvider;
+    private final CartService cartService;
+    private final GuestCartService guestCartService;
     
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
@@ -32,6 +38,7 @@ public class AuthController {
         
         String token = tokenProvider.generateToken(authentication);
         User user = userService.findByEmail(request.getEmail());
+        mergeGuestCart(user, request.getGuestCartToken());
         
         return ResponseEntity.ok(AuthResponse.of(token, UserDto.fromEntity(user)));
     }
@@ -39,7 +46,8 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         User user = userService.createUser(request);
-        String token = tokenProvider.generateToken(user.getEmail());
+        String token = tokenProvider.generateToken(user);
+        mergeGuestCart(user, request.getGuestCartToken());
         
         return ResponseEntity.ok(AuthResponse.of(token, UserDto.fromEntity(user)));
     }
@@ -47,9 +55,15 @@ public class AuthController {
     @PostMapping("/register/admin")
     public ResponseEntity<AuthResponse> registerAdmin(@Valid @RequestBody RegisterRequest request) {
         User user = userService.createAdmin(request);
-        String token = tokenProvider.generateToken(user.getEmail());
+        String token = tokenProvider.generateToken(user);
         
         return ResponseEntity.ok(AuthResponse.of(token, UserDto.fromEntity(user)));
     }
+    
+    private void mergeGuestCart(User user, String guestCartToken) {
+        Map<Long, Integer> guestItems = guestCartService.getItems(guestCartToken);
+        if (!guestItems.isEmpty()) {
+            cartService.mergeGuestCart(user.getId(), guestItems);
+        }
+    }
 }
-
@@ -1,8 +1,10 @@
 package com.ecommerce.controller;
 
+import com.ecommerce.dto.CartBatchRequest;
 import com.ecommerce.dto.CartItemDto;
 import com.ecommerce.security.CustomUserPrincipal;
 import com.ecommerce.service.CartService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -40,6 +42,13 @@ public class CartController {
         return ResponseEntity.ok(cartService.updateCartItem(user.getId(), productId, quantity));
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<List<CartItemDto>> applyBatch(
+            @AuthenticationPrincipal CustomUserPrincipal user,
+            @Valid @RequestBody CartBatchRequest request) {
+        return ResponseEntity.ok(cartService.applyBatch(user.getId(), request));
+    }
+    
     @DeleteMapping("/remove/{productId}")
     public ResponseEntity<Void> removeFromCart(
             @AuthenticationPrincipal CustomUserPrincipal user,
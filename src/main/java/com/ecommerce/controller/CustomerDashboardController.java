@@ -1,18 +1,22 @@
 package com.ecommerce.controller;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.CustomerDashboardDto;
 import com.ecommerce.dto.DashboardAnalyticsDto;
+import com.ecommerce.monitoring.SqlBudget;
 import com.ecommerce.service.CustomerDashboardService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+@SqlBudget(8)
 @Controller
 @RequestMapping("/dashboard")
 @RequiredArgsConstructor
@@ -24,6 +28,7 @@ public class CustomerDashboardController {
      * Main dashboard page with analytics overview
      */
     @GetMapping
+    @SqlBudget(15)
     public String dashboard(Model model) {
         DashboardAnalyticsDto analytics = dashboardService.getDashboardAnalytics();
         model.addAttribute("analytics", analytics);
@@ -34,10 +39,14 @@ public class CustomerDashboardController {
      * Customer search page
      */
     @GetMapping("/customers")
-    public String customerSearch(@RequestParam(required = false) String search, Model model) {
+    public String customerSearch(@RequestParam(required = false) String search,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(defaultValue = "20") int size,
+                                 Model model) {
         if (search != null && !search.isBlank()) {
-            List<CustomerDashboardDto> results = dashboardService.searchCustomers(search);
-            model.addAttribute("customers", results);
+            CursorPageDto<CustomerDashboardDto> results = dashboardService.searchCustomers(search, cursor, size);
+            model.addAttribute("customers", results.getItems());
+            model.addAttribute("nextCursor", results.getNextCursor());
             model.addAttribute("search", search);
         }
         return "dashboard/customers";
@@ -47,8 +56,11 @@ public class CustomerDashboardController {
      * Customer detail page with full dashboard
      */
     @GetMapping("/customers/{id}")
-    public String customerDetail(@PathVariable Long id, Model model) {
-        CustomerDashboardDto customer = dashboardService.getCustomerDashboard(id);
+    public String customerDetail(@PathVariable Long id,
+                                 @RequestParam(required = false) String orders,
+                                 @RequestParam(required = false) String warranties,
+                                 Model model) {
+        CustomerDashboardDto customer = dashboardService.getCustomerDashboard(id, orders, warranties);
         model.addAttribute("customer", customer);
         return "dashboard/customer-detail";
     }
@@ -58,9 +70,11 @@ public class CustomerDashboardController {
      */
     @GetMapping("/api/customers/search")
     @ResponseBody
-    public ResponseEntity<List<CustomerDashboardDto>> searchCustomersApi(@RequestParam String term) {
-        List<CustomerDashboardDto> results = dashboardService.searchCustomers(term);
-        return ResponseEntity.ok(results);
+    public ResponseEntity<CursorPageDto<CustomerDashboardDto>> searchCustomersApi(
+            @RequestParam String term,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(dashboardService.searchCustomers(term, cursor, size));
     }
 
     /**
@@ -73,10 +87,35 @@ public class CustomerDashboardController {
         return ResponseEntity.ok(customer);
     }
 
+    /**
+     * API endpoint for a page of a customer's purchase history
+     */
+    @GetMapping("/api/customers/{id}/orders")
+    @ResponseBody
+    public ResponseEntity<CursorPageDto<CustomerDashboardDto.PurchaseHistoryDto>> getPurchaseHistoryApi(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(dashboardService.getPurchaseHistory(id, cursor, size));
+    }
+
+    /**
+     * API endpoint for a page of a customer's warranties
+     */
+    @GetMapping("/api/customers/{id}/warranties")
+    @ResponseBody
+    public ResponseEntity<CursorPageDto<CustomerDashboardDto.WarrantyStatusDto>> getWarrantiesApi(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(dashboardService.getWarranties(id, cursor, size));
+    }
+
     /**
      * API endpoint for dashboard analytics
      */
     @GetMapping("/api/analytics")
+    @SqlBudget(15)
     @ResponseBody
     public ResponseEntity<DashboardAnalyticsDto> getAnalyticsApi() {
         DashboardAnalyticsDto analytics = dashboardService.getDashboardAnalytics();
@@ -84,20 +123,16 @@ public class CustomerDashboardController {
     }
 
     /**
-     * Export customer data as CSV
+     * Export customer data as CSV, written straight to the response
      */
     @GetMapping("/customers/{id}/export/csv")
-    public ResponseEntity<String> exportCustomerCsv(@PathVariable Long id) {
-        String csvData = dashboardService.exportCustomerDataCsv(id);
+    public void exportCustomerCsv(@PathVariable Long id, HttpServletResponse response) throws IOException {
+        CustomerDashboardDto customer = dashboardService.getCustomerSummary(id);
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.TEXT_PLAIN);
-        headers.set(HttpHeaders.CONTENT_DISPOSITION, 
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
                 "attachment; filename=customer_" + id + "_data.csv");
-        
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(csvData);
+        dashboardService.exportCustomerDataCsv(customer, response.getWriter());
     }
 }
-
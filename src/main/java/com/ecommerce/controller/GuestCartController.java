@@ -0,0 +1,52 @@
+package com.ecommerce.controller;
+
+import com.ecommerce.dto.GuestCartDto;
+import com.ecommerce.service.GuestCartService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/guest-cart")
+@RequiredArgsConstructor
+public class GuestCartController {
+
+    public static final String GUEST_CART_HEADER = "X-Guest-Cart";
+
+    private final GuestCartService guestCartService;
+
+    @GetMapping
+    public ResponseEntity<GuestCartDto> getCart(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token) {
+        return respond(guestCartService.getCart(token));
+    }
+
+    @PostMapping("/add")
+    public ResponseEntity<GuestCartDto> addToCart(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token,
+            @RequestParam Long productId,
+            @RequestParam(defaultValue = "1") int quantity) {
+        return respond(guestCartService.addToCart(token, productId, quantity));
+    }
+
+    @PutMapping("/update")
+    public ResponseEntity<GuestCartDto> updateCartItem(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token,
+            @RequestParam Long productId,
+            @RequestParam int quantity) {
+        return respond(guestCartService.updateCartItem(token, productId, quantity));
+    }
+
+    @DeleteMapping("/remove/{productId}")
+    public ResponseEntity<GuestCartDto> removeFromCart(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token,
+            @PathVariable Long productId) {
+        return respond(guestCartService.removeFromCart(token, productId));
+    }
+
+    private ResponseEntity<GuestCartDto> respond(GuestCartDto cart) {
+        return ResponseEntity.ok()
+                .header(GUEST_CART_HEADER, cart.getToken())
+                .body(cart);
+    }
+}
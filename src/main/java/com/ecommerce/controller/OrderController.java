@@ -3,6 +3,7 @@ package com.ecommerce.controller;
 import com.ecommerce.dto.CheckoutRequest;
 import com.ecommerce.dto.OrderDto;
 import com.ecommerce.dto.WarrantyDto;
+import com.ecommerce.monitoring.SqlBudget;
 import com.ecommerce.security.CustomUserPrincipal;
 import com.ecommerce.service.OrderService;
 import com.ecommerce.service.WarrantyService;
@@ -34,6 +35,7 @@ public class OrderController {
     }
     
     @GetMapping
+    @SqlBudget(5)
     public ResponseEntity<Page<OrderDto>> getMyOrders(
             @AuthenticationPrincipal CustomUserPrincipal user,
             @RequestParam(defaultValue = "0") int page,
@@ -44,16 +46,19 @@ public class OrderController {
     }
     
     @GetMapping("/{id}")
+    @SqlBudget(5)
     public ResponseEntity<OrderDto> getOrder(@PathVariable Long id) {
         return ResponseEntity.ok(orderService.getOrderById(id));
     }
     
     @GetMapping("/track/{orderNumber}")
+    @SqlBudget(5)
     public ResponseEntity<OrderDto> trackOrder(@PathVariable String orderNumber) {
         return ResponseEntity.ok(orderService.trackOrder(orderNumber));
     }
     
     @GetMapping("/{orderId}/warranties")
+    @SqlBudget(5)
     public ResponseEntity<List<WarrantyDto>> getOrderWarranties(@PathVariable Long orderId) {
         return ResponseEntity.ok(warrantyService.getWarrantiesByOrder(orderId));
     }
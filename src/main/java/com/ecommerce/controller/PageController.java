@@ -2,6 +2,7 @@ package com.ecommerce.controller;
 
 import com.ecommerce.dto.CategoryDto;
 import com.ecommerce.dto.ProductDto;
+import com.ecommerce.monitoring.SqlBudget;
 import com.ecommerce.service.CategoryService;
 import com.ecommerce.service.ProductService;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class PageController {
     private final CategoryService categoryService;
     
     @GetMapping("/")
+    @SqlBudget(10)
     public String home(Model model) {
         List<ProductDto> featuredProducts = productService.getFeaturedProducts();
         List<ProductDto> bestSellers = productService.getBestSellingProducts(8);
@@ -37,6 +39,7 @@ public class PageController {
     }
     
     @GetMapping("/shop")
+    @SqlBudget(10)
     public String shop(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String brand,
@@ -80,6 +83,7 @@ public class PageController {
     }
     
     @GetMapping("/product/{id}")
+    @SqlBudget(5)
     public String productDetail(@PathVariable Long id, Model model) {
         ProductDto product = productService.getProductById(id);
         List<ProductDto> relatedProducts = productService.getBestSellingProducts(4);
@@ -0,0 +1,35 @@
+package com.ecommerce.controller.admin;
+
+import com.ecommerce.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCacheController {
+    
+    private final CacheStatisticsService cacheStatisticsService;
+    
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+    
+    @DeleteMapping("/stats")
+    public ResponseEntity<Void> resetStatistics() {
+        cacheStatisticsService.resetStatistics();
+        return ResponseEntity.noContent().build();
+    }
+    
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        cacheStatisticsService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.controller.admin;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.UserDto;
 import com.ecommerce.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -35,13 +36,11 @@ public class AdminCustomerController {
     }
     
     @GetMapping("/search")
-    public ResponseEntity<Page<UserDto>> searchCustomers(
+    public ResponseEntity<CursorPageDto<UserDto>> searchCustomers(
             @RequestParam String q,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
-        
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(userService.searchCustomers(q, pageable));
+        return ResponseEntity.ok(userService.searchCustomers(q, cursor, size));
     }
     
     @GetMapping("/top-spenders")
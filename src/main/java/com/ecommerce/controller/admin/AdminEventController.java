@@ -0,0 +1,25 @@
+package com.ecommerce.controller.admin;
+
+import com.ecommerce.event.AdminEventBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/admin/events")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminEventController {
+
+    private final AdminEventBus adminEventBus;
+
+    // Live order and stock feed; replaces polling the dashboard endpoints
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return adminEventBus.subscribe();
+    }
+}
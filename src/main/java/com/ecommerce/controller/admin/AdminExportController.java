@@ -0,0 +1,107 @@
+package com.ecommerce.controller.admin;
+
+import com.ecommerce.export.DataExportService;
+import com.ecommerce.export.ExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk downloads of customers, orders and warranties as CSV or NDJSON
+ * (?format=ndjson). The body is written on the request thread while the
+ * rows are read, and gzip-compressed when the client accepts it.
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+public class AdminExportController {
+
+    private final DataExportService exportService;
+
+    @GetMapping("/customers")
+    public void exportCustomers(@RequestParam(defaultValue = "csv") String format,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        stream("customers", ExportFormat.from(format), request, response, exportService::exportCustomers);
+    }
+
+    @GetMapping("/orders")
+    public void exportOrders(@RequestParam(defaultValue = "csv") String format,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        stream("orders", ExportFormat.from(format), request, response, exportService::exportOrders);
+    }
+
+    @GetMapping("/warranties")
+    public void exportWarranties(@RequestParam(defaultValue = "csv") String format,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        stream("warranties", ExportFormat.from(format), request, response, exportService::exportWarranties);
+    }
+
+    private void stream(String dataset, ExportFormat format, HttpServletRequest request,
+                        HttpServletResponse response, Export export) throws IOException {
+        try (DataExportService.Slot slot = exportService.acquireSlot()) {
+            long start = System.nanoTime();
+            boolean gzip = acceptsGzip(request);
+
+            response.setContentType(format.getContentType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(dataset + "-" + LocalDate.now() + "." + format.getExtension())
+                    .build()
+                    .toString());
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+
+            OutputStream body = response.getOutputStream();
+            long rows;
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(body, 65536);
+                rows = export.write(format, compressed);
+                compressed.finish();
+            } else {
+                rows = export.write(format, body);
+            }
+            body.flush();
+            log.info("Exported {} {} records as {}{} in {} ms", rows, dataset, format.getExtension(),
+                    gzip ? " (gzip)" : "", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equals("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface Export {
+
+        long write(ExportFormat format, OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.controller.admin;
+
+import com.ecommerce.service.FlightRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/jfr")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminFlightRecordingController {
+    
+    private final FlightRecordingService flightRecordingService;
+    
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(flightRecordingService.getStatus());
+    }
+    
+    /**
+     * Dumps the continuous recording and returns it as a .jfr file for JDK
+     * Mission Control or the jfr tool.
+     */
+    @PostMapping("/dump")
+    public ResponseEntity<Resource> dump() {
+        Path file = flightRecordingService.dump();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.getFileName().toString())
+                        .build()
+                        .toString())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(file));
+    }
+}
@@ -1,18 +1,24 @@
 package com.ecommerce.controller.admin;
 
+import com.ecommerce.dto.BulkCancelResultDto;
 import com.ecommerce.dto.OrderDto;
+import com.ecommerce.dto.OrderTrackingBatchRequest;
+import com.ecommerce.dto.OrderTrackingBatchResult;
 import com.ecommerce.entity.Order;
 import com.ecommerce.service.OrderService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -90,9 +96,26 @@ public class AdminOrderController {
         return ResponseEntity.ok(orderService.updateTracking(id, trackingNumber, carrier, estimatedDelivery));
     }
     
+    @PostMapping(value = "/tracking/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OrderTrackingBatchResult> updateTrackingBatch(
+            @Valid @RequestBody OrderTrackingBatchRequest request) {
+        return ResponseEntity.ok(orderService.updateTrackingBatch(request));
+    }
+    
+    // Warehouse manifest upload: header row plus one CSV line per order
+    @PostMapping(value = "/tracking/bulk", consumes = "text/csv")
+    public ResponseEntity<OrderTrackingBatchResult> updateTrackingBatchCsv(@RequestBody String manifest) {
+        return ResponseEntity.ok(orderService.updateTrackingBatch(OrderTrackingBatchRequest.fromCsv(manifest)));
+    }
+    
     @PostMapping("/{id}/cancel")
     public ResponseEntity<OrderDto> cancelOrder(@PathVariable Long id) {
         return ResponseEntity.ok(orderService.cancelOrder(id));
     }
+    
+    @PostMapping("/cancel")
+    public ResponseEntity<BulkCancelResultDto> cancelOrders(@RequestBody List<Long> orderIds) {
+        return ResponseEntity.ok(orderService.cancelOrders(orderIds));
+    }
 }
 
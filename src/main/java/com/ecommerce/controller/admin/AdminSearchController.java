@@ -0,0 +1,51 @@
+package com.ecommerce.controller.admin;
+
+import com.ecommerce.dto.AdminSearchResultDto;
+import com.ecommerce.exception.BadRequestException;
+import com.ecommerce.search.AdminSearchService;
+import com.ecommerce.search.SearchEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSearchController {
+
+    private final AdminSearchService adminSearchService;
+
+    /**
+     * Ranked hits across customers, orders, warranties, inventory items and
+     * discounts; ?types=order,warranty narrows the search.
+     */
+    @GetMapping
+    public ResponseEntity<AdminSearchResultDto> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(adminSearchService.search(q, parseTypes(types), limit));
+    }
+
+    private static Set<SearchEntityType> parseTypes(List<String> types) {
+        Set<SearchEntityType> parsed = EnumSet.noneOf(SearchEntityType.class);
+        if (types == null) {
+            return parsed;
+        }
+        for (String type : types) {
+            try {
+                parsed.add(SearchEntityType.valueOf(type.trim().toUpperCase(Locale.ROOT).replace('-', '_')));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown search type: " + type);
+            }
+        }
+        return parsed;
+    }
+}
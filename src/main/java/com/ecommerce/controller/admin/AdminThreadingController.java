@@ -0,0 +1,27 @@
+package com.ecommerce.controller.admin;
+
+import com.ecommerce.monitoring.jfr.VirtualThreadPinningMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/threads")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminThreadingController {
+
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    /**
+     * Execution mode and the carrier-thread pinning seen so far, worst
+     * sources first.
+     */
+    @GetMapping("/pinning")
+    public ResponseEntity<Map<String, Object>> getPinning() {
+        return ResponseEntity.ok(pinningMonitor.getReport());
+    }
+}
@@ -1,7 +1,9 @@
 package com.ecommerce.controller.admin;
 
+import com.ecommerce.dto.SerialLookupDto;
 import com.ecommerce.dto.WarrantyDto;
 import com.ecommerce.entity.Warranty;
+import com.ecommerce.service.SerialLookupService;
 import com.ecommerce.service.WarrantyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,6 +22,7 @@ import java.util.List;
 public class AdminWarrantyController {
     
     private final WarrantyService warrantyService;
+    private final SerialLookupService serialLookupService;
     
     @GetMapping
     public ResponseEntity<Page<WarrantyDto>> getAllWarranties(
@@ -61,6 +64,12 @@ public class AdminWarrantyController {
         return ResponseEntity.ok(warrantyService.searchWarranties(q, pageable));
     }
     
+    // Products, warranties and inventory items carrying a serial number
+    @GetMapping("/serial-lookup")
+    public ResponseEntity<SerialLookupDto> lookupSerial(@RequestParam String serialNumber) {
+        return ResponseEntity.ok(serialLookupService.lookup(serialNumber));
+    }
+    
     @PostMapping("/{id}/void")
     public ResponseEntity<Void> voidWarranty(@PathVariable Long id) {
         warrantyService.voidWarranty(id);
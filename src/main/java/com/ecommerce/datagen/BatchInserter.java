@@ -0,0 +1,55 @@
+package com.ecommerce.datagen;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Buffers rows for one INSERT statement and sends them as a JDBC batch
+ * every batch-size rows. With the Postgres driver's reWriteBatchedInserts
+ * each batch goes over the wire as multi-row INSERTs. A child table's
+ * inserter flushes its parent first so foreign keys always resolve.
+ */
+class BatchInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+    private final int batchSize;
+    private final List<Object[]> rows;
+    private final BatchInserter parent;
+    private long count;
+
+    BatchInserter(JdbcTemplate jdbcTemplate, String table, String columns, int batchSize, BatchInserter parent) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.parent = parent;
+        int columnCount = columns.split(",").length;
+        this.sql = "INSERT INTO " + table + " (" + columns + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        this.batchSize = batchSize;
+        this.rows = new ArrayList<>(batchSize);
+    }
+
+    void add(Object... row) {
+        rows.add(row);
+        count++;
+        if (rows.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (parent != null) {
+            parent.flush();
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    long count() {
+        return count;
+    }
+}
@@ -0,0 +1,544 @@
+package com.ecommerce.datagen;
+
+import com.ecommerce.entity.InventoryItem;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.User;
+import com.ecommerce.entity.Warranty;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Fills an empty database with a large synthetic dataset (datagen profile)
+ * in place of the hand-written sample data. Product popularity and repeat
+ * customers follow Zipf distributions, orders follow the seasonal calendar,
+ * warranties start on delivery and expire by their period, and offline
+ * inventory customers are spread over the same history. Rows are written
+ * with JDBC batches and explicit ids; one seeded random stream drives
+ * everything, so the same settings always produce the same data.
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+@Slf4j
+public class DataGenerator implements CommandLineRunner {
+
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.18");
+    private static final BigDecimal FREE_SHIPPING_THRESHOLD = new BigDecimal("100");
+    private static final BigDecimal SHIPPING = new BigDecimal("9.99");
+    private static final int[] WARRANTY_MONTHS = {0, 6, 12, 12, 24, 36};
+    private static final String[] PAYMENT_METHODS = {"UPI", "CARD", "CARD", "COD", "NET_BANKING"};
+    private static final String[] CARRIERS = {"Delhivery", "Blue Dart", "DTDC", "Ekart"};
+
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Vivaan", "Aditya", "Rahul", "Rohan", "Arjun", "Karan", "Amit", "Suresh", "Ramesh",
+            "Priya", "Ananya", "Diya", "Sneha", "Pooja", "Kavya", "Neha", "Anjali", "Meera", "Sunita"};
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Verma", "Gupta", "Kumar", "Singh", "Patel", "Agarwal", "Jain", "Mehta", "Reddy",
+            "Iyer", "Nair", "Joshi", "Chauhan", "Yadav", "Mishra", "Rathore", "Saxena", "Bansal", "Malhotra"};
+    private static final String[][] CITIES = {
+            {"Jaipur", "Rajasthan", "302"}, {"Ajmer", "Rajasthan", "305"}, {"Jodhpur", "Rajasthan", "342"},
+            {"Delhi", "Delhi", "110"}, {"Mumbai", "Maharashtra", "400"}, {"Pune", "Maharashtra", "411"},
+            {"Ahmedabad", "Gujarat", "380"}, {"Lucknow", "Uttar Pradesh", "226"}, {"Indore", "Madhya Pradesh", "452"},
+            {"Bengaluru", "Karnataka", "560"}, {"Chennai", "Tamil Nadu", "600"}, {"Kolkata", "West Bengal", "700"}};
+    private static final String[] STREETS = {
+            "MG Road", "Station Road", "Civil Lines", "Vaishali Nagar", "Malviya Nagar", "Sector 12", "Gandhi Nagar"};
+
+    private static final String[] CATEGORY_NAMES = {
+            "Air Coolers", "Ceiling Fans", "Table Fans", "Mixer Grinders", "Juicers", "Chimneys", "Gas Stoves",
+            "Geysers", "Room Heaters", "Atta Chakki", "Water Purifiers", "Irons", "Kettles", "Toasters",
+            "Induction Cooktops", "Crockery", "Cookware", "Storage", "Lighting", "Cleaning"};
+    private static final String[] BRANDS = {"Kenway", "Kenway", "Kenway", "Bajaj", "Havells", "Crompton", "Usha"};
+    private static final String[] PRODUCT_STYLES = {"Classic", "Pro", "Smart", "Deluxe", "Compact", "Turbo", "Eco", "Prime"};
+
+    // Offline inventory categories, matching the sample data and the item id
+    // prefixes InventoryService derives from category names
+    private static final String[][] ITEM_CATEGORIES = {
+            {"Cooler", "Air coolers and desert coolers", "bi-wind", "CLR", "Desert Air Cooler 55L", "DAC-55L"},
+            {"Chimney", "Kitchen chimneys and exhaust", "bi-cloud-haze", "CHM", "Auto Clean Chimney 60cm", "ACC-60"},
+            {"Mixer", "Mixer grinders and blenders", "bi-cup-straw", "MXR", "Mixer Grinder 750W", "MG-750"},
+            {"Geyser", "Water heaters and geysers", "bi-droplet-half", "GYS", "Storage Geyser 25L", "SG-25L"},
+            {"Atta Chakki", "Flour mills and atta makers", "bi-gear", "ATC", "Domestic Atta Chakki", "DAC-1HP"},
+            {"Fans", "Ceiling, table and pedestal fans", "bi-fan", "FAN", "High Speed Ceiling Fan", "HSF-1200"},
+            {"Crockery", "Dinner sets and kitchenware", "bi-cup-hot", "CRK", "Dinner Set 32 Pcs", "DS-32"}};
+    private static final int[] ITEM_CATEGORY_WEIGHTS = {35, 10, 15, 12, 5, 20, 3};
+    private static final boolean[] ITEM_CATEGORY_MOTOR = {true, true, true, false, true, true, false};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final DataGeneratorProperties properties;
+    private final ApplicationContext context;
+
+    private SplittableRandom random;
+    private SeasonalCalendar calendar;
+    private LocalDate endDate;
+
+    // Per-customer data reused for order shipping details
+    private String[] customerNames;
+    private int[] customerCities;
+    private String[] customerAddresses;
+    private String[] customerZips;
+    private String[] customerPhones;
+    private long[] customerOrders;
+    private BigDecimal[] customerSpent;
+
+    // Per-product data reused for order lines and warranties
+    private String[] productNames;
+    private String[] productSkus;
+    private String[] productColors;
+    private BigDecimal[] productPrices;
+    private int[] productWarrantyMonths;
+    private long[] productSold;
+
+    @Override
+    public void run(String... args) {
+        Long existingUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existingUsers != null && existingUsers > 0) {
+            log.warn("Database already has {} users, skipping synthetic data generation", existingUsers);
+            return;
+        }
+
+        random = new SplittableRandom(properties.getSeed());
+        endDate = properties.resolveEndDate();
+        calendar = new SeasonalCalendar(endDate.minusYears(properties.getHistoryYears()).plusDays(1), endDate,
+                properties.getMonthlyWeights(), properties.getYearlyGrowth());
+
+        log.info("Generating synthetic data (seed {}, {} customers, {} products, {} orders, {} inventory items)",
+                properties.getSeed(), properties.getCustomers(), properties.getProducts(),
+                properties.getOrders(), properties.getInventoryItems());
+        long start = System.nanoTime();
+
+        timed("users", this::generateUsers);
+        timed("categories", this::generateCategories);
+        timed("products", this::generateProducts);
+        timed("orders, order items and warranties", this::generateOrders);
+        timed("product and customer totals", this::updateTotals);
+        timed("inventory items", this::generateInventory);
+        resetIdentities();
+
+        log.info("Synthetic data generated in {}s", (System.nanoTime() - start) / 1_000_000_000);
+
+        if (properties.isExitOnFinish()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void timed(String step, LongSupplier generator) {
+        long start = System.nanoTime();
+        long rows = generator.getAsLong();
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Generated {}: {} rows in {} ms ({} rows/s)", step, rows, elapsedMs, rows * 1000 / elapsedMs);
+    }
+
+    // ============ Users ============
+
+    private long generateUsers() {
+        int customers = properties.getCustomers();
+        customerNames = new String[customers];
+        customerCities = new int[customers];
+        customerAddresses = new String[customers];
+        customerZips = new String[customers];
+        customerPhones = new String[customers];
+        customerOrders = new long[customers];
+        customerSpent = new BigDecimal[customers];
+
+        BatchInserter users = inserter("users",
+                "id, name, email, password, phone, address, city, state, zip_code, country, role, enabled,"
+                        + " total_orders, lifetime_spent, created_at, updated_at");
+
+        LocalDateTime adminCreated = calendar.sample(random).atStartOfDay();
+        users.add(1L, "Admin User", properties.getAdminEmail(), passwordEncoder.encode(properties.getAdminPassword()),
+                "+91 98765 43210", "Kenway Industries, MG Road", "Jaipur", "Rajasthan", "302001", "India",
+                User.Role.ADMIN.name(), true, 0, BigDecimal.ZERO, adminCreated, adminCreated);
+
+        // Hashing is deliberately slow, so every customer shares one hash
+        String customerHash = passwordEncoder.encode(properties.getCustomerPassword());
+        for (int i = 0; i < customers; i++) {
+            int city = random.nextInt(CITIES.length);
+            String first = pick(FIRST_NAMES);
+            String last = pick(LAST_NAMES);
+            customerNames[i] = first + " " + last;
+            customerCities[i] = city;
+            customerAddresses[i] = (1 + random.nextInt(250)) + ", " + pick(STREETS);
+            customerZips[i] = CITIES[city][2] + String.format("%03d", random.nextInt(100));
+            customerPhones[i] = phone();
+            customerSpent[i] = BigDecimal.ZERO;
+
+            LocalDateTime created = calendar.sample(random).atTime(random.nextInt(24), random.nextInt(60));
+            users.add(customerId(i), customerNames[i],
+                    first.toLowerCase() + "." + last.toLowerCase() + (i + 1) + "@example.com",
+                    customerHash, customerPhones[i], customerAddresses[i], CITIES[city][0], CITIES[city][1],
+                    customerZips[i], "India", User.Role.CUSTOMER.name(), true, 0, BigDecimal.ZERO, created, created);
+        }
+        users.flush();
+        return users.count();
+    }
+
+    private static long customerId(int index) {
+        return index + 2L;
+    }
+
+    // ============ Catalog ============
+
+    private long generateCategories() {
+        BatchInserter categories = inserter("categories",
+                "id, name, description, active, display_order, created_at, updated_at");
+        LocalDateTime created = endDate.minusYears(properties.getHistoryYears()).atStartOfDay();
+        for (int i = 0; i < properties.getCategories(); i++) {
+            categories.add(i + 1L, categoryName(i), "Generated category " + (i + 1), true, i + 1, created, created);
+        }
+        categories.flush();
+        return categories.count();
+    }
+
+    private static String categoryName(int index) {
+        String base = CATEGORY_NAMES[index % CATEGORY_NAMES.length];
+        return index < CATEGORY_NAMES.length ? base : base + " " + (index / CATEGORY_NAMES.length + 1);
+    }
+
+    private long generateProducts() {
+        int products = properties.getProducts();
+        productNames = new String[products];
+        productSkus = new String[products];
+        productColors = new String[products];
+        productPrices = new BigDecimal[products];
+        productWarrantyMonths = new int[products];
+        productSold = new long[products];
+
+        BatchInserter inserter = inserter("products",
+                "id, name, description, price, original_price, stock_quantity, sku, brand, color, category_id,"
+                        + " warranty_period_months, rating, review_count, sold_count, active, featured,"
+                        + " created_at, updated_at");
+        String[] colors = {"White", "Black", "Silver", "Grey", "Blue", "Red"};
+        LocalDate catalogStart = endDate.minusYears(properties.getHistoryYears());
+
+        for (int i = 0; i < products; i++) {
+            int category = random.nextInt(properties.getCategories());
+            String brand = pick(BRANDS);
+            String style = pick(PRODUCT_STYLES);
+            productNames[i] = brand + " " + style + " " + singular(categoryName(category)) + " " + (100 + random.nextInt(900));
+            productSkus[i] = String.format("SKU-%07d", i + 1);
+            productColors[i] = pick(colors);
+            // Log-normal prices: most items are a few thousand, a long tail is much more
+            productPrices[i] = BigDecimal.valueOf(Math.max(199, Math.exp(7.8 + 0.8 * random.nextGaussian())))
+                    .setScale(0, RoundingMode.HALF_UP).setScale(2, RoundingMode.UNNECESSARY);
+            BigDecimal originalPrice = random.nextInt(3) == 0
+                    ? productPrices[i].multiply(BigDecimal.valueOf(1.1 + random.nextDouble() * 0.3)).setScale(2, RoundingMode.HALF_UP)
+                    : null;
+            productWarrantyMonths[i] = WARRANTY_MONTHS[random.nextInt(WARRANTY_MONTHS.length)];
+            double rating = Math.round((3.0 + random.nextDouble() * 2.0) * 10) / 10.0;
+            LocalDateTime created = catalogStart.plusDays(random.nextInt(30)).atStartOfDay();
+
+            inserter.add(i + 1L, productNames[i],
+                    style + " " + singular(categoryName(category)).toLowerCase() + " by " + brand + ".",
+                    productPrices[i], originalPrice, random.nextInt(500), productSkus[i], brand, productColors[i],
+                    category + 1L, productWarrantyMonths[i], rating, 0, 0, random.nextInt(40) != 0, false,
+                    created, created);
+        }
+        inserter.flush();
+        return inserter.count();
+    }
+
+    private static String singular(String categoryName) {
+        return categoryName.endsWith("s") ? categoryName.substring(0, categoryName.length() - 1) : categoryName;
+    }
+
+    // ============ Orders and warranties ============
+
+    private long generateOrders() {
+        // Popularity ranks are shuffled across ids so hot products are not just the first rows
+        int[] productByRank = shuffledIndexes(properties.getProducts());
+        int[] customerByRank = shuffledIndexes(properties.getCustomers());
+        ZipfDistribution productPopularity = new ZipfDistribution(properties.getProducts(), properties.getProductZipfExponent());
+        ZipfDistribution customerLoyalty = new ZipfDistribution(properties.getCustomers(), properties.getCustomerZipfExponent());
+
+        BatchInserter orders = inserter("orders",
+                "id, order_number, user_id, status, payment_status, payment_method, subtotal, discount_amount,"
+                        + " tax_amount, shipping_amount, total_amount, shipping_name, shipping_phone, shipping_address,"
+                        + " shipping_city, shipping_state, shipping_zip_code, shipping_country, carrier,"
+                        + " tracking_number, estimated_delivery, actual_delivery, created_at, updated_at");
+        BatchInserter orderItems = inserter("order_items",
+                "id, order_id, product_id, product_name, product_sku, product_color, quantity, unit_price, total_price", orders);
+        BatchInserter warranties = inserter("warranties",
+                "id, warranty_number, product_id, user_id, order_id, serial_number, purchase_date,"
+                        + " warranty_start_date, warranty_end_date, status, claim_filed, claim_count,"
+                        + " last_claim_date, created_at, updated_at", orders);
+
+        long itemId = 0;
+        long warrantyId = 0;
+        int[] lineProducts = new int[properties.getMaxItemsPerOrder()];
+        int[] lineQuantities = new int[properties.getMaxItemsPerOrder()];
+
+        for (long orderId = 1; orderId <= properties.getOrders(); orderId++) {
+            int customer = customerByRank[customerLoyalty.sample(random)];
+            LocalDate orderDate = calendar.sample(random);
+            LocalDateTime createdAt = orderDate.atTime(8 + random.nextInt(15), random.nextInt(60), random.nextInt(60));
+            Order.OrderStatus status = orderStatus(orderDate);
+
+            int lines = 1;
+            while (lines < lineProducts.length && random.nextDouble() < 0.35) {
+                lines++;
+            }
+            BigDecimal subtotal = BigDecimal.ZERO;
+            for (int line = 0; line < lines; line++) {
+                lineProducts[line] = productByRank[productPopularity.sample(random)];
+                lineQuantities[line] = random.nextInt(10) < 8 ? 1 : 2 + random.nextInt(2);
+                subtotal = subtotal.add(productPrices[lineProducts[line]].multiply(BigDecimal.valueOf(lineQuantities[line])));
+            }
+
+            BigDecimal discount = random.nextInt(10) == 0
+                    ? subtotal.multiply(BigDecimal.valueOf(5 + random.nextInt(11), 2)).setScale(2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+            BigDecimal tax = subtotal.subtract(discount).multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal shipping = subtotal.compareTo(FREE_SHIPPING_THRESHOLD) >= 0 ? BigDecimal.ZERO : SHIPPING;
+            BigDecimal total = subtotal.subtract(discount).add(tax).add(shipping);
+
+            boolean shipped = status.ordinal() >= Order.OrderStatus.SHIPPED.ordinal() && status != Order.OrderStatus.CANCELLED;
+            boolean delivered = status == Order.OrderStatus.DELIVERED || status == Order.OrderStatus.RETURNED;
+            LocalDateTime deliveredAt = delivered ? createdAt.plusDays(2 + random.nextInt(6)) : null;
+            String[] city = CITIES[customerCities[customer]];
+
+            orders.add(orderId, String.format("ORD-%s-%08X", orderDate.toString().replace("-", ""), orderId),
+                    customerId(customer), status.name(), paymentStatus(status).name(), pick(PAYMENT_METHODS),
+                    subtotal, discount, tax, shipping, total, customerNames[customer], customerPhones[customer],
+                    customerAddresses[customer], city[0], city[1], customerZips[customer], "India",
+                    shipped ? pick(CARRIERS) : null, shipped ? String.format("TRK%010d", orderId) : null,
+                    createdAt.plusDays(5), deliveredAt, createdAt, deliveredAt != null ? deliveredAt : createdAt);
+
+            boolean counted = status != Order.OrderStatus.CANCELLED;
+            if (counted) {
+                customerOrders[customer]++;
+                customerSpent[customer] = customerSpent[customer].add(total);
+            }
+
+            for (int line = 0; line < lines; line++) {
+                int product = lineProducts[line];
+                BigDecimal unitPrice = productPrices[product];
+                orderItems.add(++itemId, orderId, product + 1L, productNames[product], productSkus[product],
+                        productColors[product], lineQuantities[line], unitPrice,
+                        unitPrice.multiply(BigDecimal.valueOf(lineQuantities[line])));
+                if (counted) {
+                    productSold[product] += lineQuantities[line];
+                }
+
+                if (status == Order.OrderStatus.DELIVERED && productWarrantyMonths[product] > 0) {
+                    warrantyId++;
+                    addWarranty(warranties, warrantyId, orderId, product, customer, orderDate, deliveredAt);
+                }
+            }
+        }
+        orders.flush();
+        orderItems.flush();
+        warranties.flush();
+        return orders.count() + orderItems.count() + warranties.count();
+    }
+
+    private void addWarranty(BatchInserter warranties, long warrantyId, long orderId, int product, int customer,
+                             LocalDate purchaseDate, LocalDateTime deliveredAt) {
+        LocalDate start = deliveredAt.toLocalDate();
+        LocalDate end = start.plusMonths(productWarrantyMonths[product]);
+        boolean claimed = random.nextDouble() < properties.getWarrantyClaimRate();
+        LocalDateTime claimedAt = null;
+        Warranty.WarrantyStatus status;
+        if (claimed) {
+            long coveredDays = Math.max(1, ChronoUnit.DAYS.between(start, end.isBefore(endDate) ? end : endDate));
+            claimedAt = start.plusDays(random.nextLong(coveredDays)).atTime(10 + random.nextInt(8), 0);
+            status = Warranty.WarrantyStatus.CLAIMED;
+        } else {
+            status = end.isBefore(endDate) ? Warranty.WarrantyStatus.EXPIRED : Warranty.WarrantyStatus.ACTIVE;
+        }
+
+        warranties.add(warrantyId, String.format("WRN-%012X", warrantyId), product + 1L, customerId(customer), orderId,
+                String.format("KW-%d-%08d", start.getYear(), warrantyId), purchaseDate, start, end, status.name(),
+                claimed, claimed ? 1 : 0, claimedAt, deliveredAt, claimedAt != null ? claimedAt : deliveredAt);
+    }
+
+    // Older orders have finished their lifecycle, the last fortnight is still in flight
+    private Order.OrderStatus orderStatus(LocalDate orderDate) {
+        long age = ChronoUnit.DAYS.between(orderDate, endDate);
+        int roll = random.nextInt(100);
+        if (age > 14) {
+            return roll < 93 ? Order.OrderStatus.DELIVERED
+                    : roll < 97 ? Order.OrderStatus.CANCELLED
+                    : Order.OrderStatus.RETURNED;
+        }
+        if (roll < 3) {
+            return Order.OrderStatus.CANCELLED;
+        }
+        if (age <= 1) {
+            return roll < 50 ? Order.OrderStatus.PENDING : Order.OrderStatus.CONFIRMED;
+        }
+        if (age <= 3) {
+            return Order.OrderStatus.PROCESSING;
+        }
+        if (age <= 6) {
+            return Order.OrderStatus.SHIPPED;
+        }
+        return age == 7 ? Order.OrderStatus.OUT_FOR_DELIVERY : Order.OrderStatus.DELIVERED;
+    }
+
+    private Order.PaymentStatus paymentStatus(Order.OrderStatus status) {
+        return switch (status) {
+            case PENDING -> Order.PaymentStatus.PENDING;
+            case CANCELLED -> random.nextBoolean() ? Order.PaymentStatus.FAILED : Order.PaymentStatus.REFUNDED;
+            case RETURNED, REFUNDED -> Order.PaymentStatus.REFUNDED;
+            default -> Order.PaymentStatus.PAID;
+        };
+    }
+
+    private long updateTotals() {
+        List<Object[]> products = new ArrayList<>(productSold.length);
+        for (int i = 0; i < productSold.length; i++) {
+            products.add(new Object[]{productSold[i], productSold[i] / 8, i + 1L});
+        }
+        jdbcTemplate.batchUpdate("UPDATE products SET sold_count = ?, review_count = ? WHERE id = ?", products);
+
+        // The best sellers are featured on the home page
+        jdbcTemplate.update("UPDATE products SET featured = TRUE WHERE id IN"
+                + " (SELECT id FROM products ORDER BY sold_count DESC, id LIMIT 12)");
+
+        List<Object[]> customers = new ArrayList<>(customerOrders.length);
+        for (int i = 0; i < customerOrders.length; i++) {
+            customers.add(new Object[]{customerOrders[i], customerSpent[i], customerId(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE users SET total_orders = ?, lifetime_spent = ? WHERE id = ?", customers);
+        return products.size() + customers.size();
+    }
+
+    // ============ Offline inventory ============
+
+    private long generateInventory() {
+        BatchInserter categories = inserter("item_categories",
+                "id, name, description, icon, display_order, active, created_at, updated_at");
+        LocalDateTime created = endDate.minusYears(properties.getHistoryYears()).atStartOfDay();
+        for (int i = 0; i < ITEM_CATEGORIES.length; i++) {
+            categories.add(i + 1L, ITEM_CATEGORIES[i][0], ITEM_CATEGORIES[i][1], ITEM_CATEGORIES[i][2],
+                    i + 1, true, created, created);
+        }
+        categories.flush();
+
+        BatchInserter items = inserter("inventory_items",
+                "id, item_id, name, category_id, item_details, date_of_purchase,"
+                        + " has_product_warranty, product_warranty_period_months, product_warranty_start_date,"
+                        + " product_warranty_end_date, has_motor_warranty, motor_warranty_period_months,"
+                        + " motor_warranty_start_date, motor_warranty_end_date, customer_name, customer_phone,"
+                        + " customer_email, address, city, state, pin_code, brand, model, serial_number, status,"
+                        + " created_at, updated_at");
+
+        int totalWeight = 0;
+        for (int weight : ITEM_CATEGORY_WEIGHTS) {
+            totalWeight += weight;
+        }
+        int[] perCategory = new int[ITEM_CATEGORIES.length];
+        InventoryItem.ItemStatus[] statuses = InventoryItem.ItemStatus.values();
+
+        for (long id = 1; id <= properties.getInventoryItems(); id++) {
+            int category = weightedCategory(random.nextInt(totalWeight));
+            String[] itemCategory = ITEM_CATEGORIES[category];
+            int sequence = ++perCategory[category];
+            LocalDate purchased = calendar.sample(random);
+
+            boolean productWarranty = random.nextInt(10) != 0;
+            int productMonths = productWarranty ? (random.nextBoolean() ? 12 : 24) : 0;
+            boolean motorWarranty = ITEM_CATEGORY_MOTOR[category] && random.nextInt(10) < 7;
+            int motorMonths = motorWarranty ? new int[]{24, 36, 60}[random.nextInt(3)] : 0;
+
+            String first = pick(FIRST_NAMES);
+            String last = pick(LAST_NAMES);
+            String[] city = CITIES[random.nextInt(CITIES.length)];
+            int roll = random.nextInt(100);
+            InventoryItem.ItemStatus status = roll < 88 ? InventoryItem.ItemStatus.ACTIVE : statuses[1 + roll % 4];
+            LocalDateTime createdAt = purchased.atTime(10 + random.nextInt(9), random.nextInt(60));
+
+            items.add(id, String.format("%s-%04d", itemCategory[3], sequence), itemCategory[4], category + 1L,
+                    itemCategory[4] + " installed at customer site.", purchased,
+                    productWarranty, productWarranty ? productMonths : null,
+                    productWarranty ? purchased : null, productWarranty ? purchased.plusMonths(productMonths) : null,
+                    motorWarranty, motorWarranty ? motorMonths : null,
+                    motorWarranty ? purchased : null, motorWarranty ? purchased.plusMonths(motorMonths) : null,
+                    first + " " + last, phone(), random.nextInt(3) == 0 ? null : first.toLowerCase() + id + "@gmail.com",
+                    (1 + random.nextInt(250)) + ", " + pick(STREETS), city[0], city[1],
+                    city[2] + String.format("%03d", random.nextInt(100)), "Kenway", itemCategory[5],
+                    String.format("KW-%s-%d-%06d", itemCategory[3], purchased.getYear(), sequence), status.name(),
+                    createdAt, createdAt);
+        }
+        items.flush();
+        return categories.count() + items.count();
+    }
+
+    private static int weightedCategory(int roll) {
+        for (int i = 0; i < ITEM_CATEGORY_WEIGHTS.length; i++) {
+            roll -= ITEM_CATEGORY_WEIGHTS[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return ITEM_CATEGORY_WEIGHTS.length - 1;
+    }
+
+    // ============ Helpers ============
+
+    // Ids were inserted explicitly, so move each identity past the last one
+    private void resetIdentities() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        for (String table : List.of("users", "categories", "products", "orders", "order_items", "warranties",
+                "item_categories", "inventory_items")) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long next = (maxId != null ? maxId : 0) + 1;
+            if ("PostgreSQL".equals(database)) {
+                jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence(?, 'id'), ?, false)",
+                        Long.class, table, next);
+            } else {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+        }
+    }
+
+    private BatchInserter inserter(String table, String columns) {
+        return inserter(table, columns, null);
+    }
+
+    private BatchInserter inserter(String table, String columns, BatchInserter parent) {
+        return new BatchInserter(jdbcTemplate, table, columns, properties.getBatchSize(), parent);
+    }
+
+    private int[] shuffledIndexes(int size) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String phone() {
+        return String.format("+91 %05d %05d", 70000 + random.nextInt(30000), random.nextInt(100000));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.datagen;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic dataset settings, bound from datagen.* (datagen profile).
+ */
+@Component
+@ConfigurationProperties(prefix = "datagen")
+@Data
+public class DataGeneratorProperties {
+
+    // Same seed and settings produce the same rows, ids included
+    private long seed = 42;
+
+    // Last day of generated history; empty means today. Pin it to make
+    // dates, warranty expiry and order statuses reproducible too
+    private LocalDate endDate;
+    private int historyYears = 3;
+
+    private int customers = 50_000;
+    private int categories = 40;
+    private int products = 100_000;
+    private int orders = 1_000_000;
+    private int maxItemsPerOrder = 4;
+    private int inventoryItems = 200_000;
+
+    // Popularity skew: the product at rank k is picked with weight 1/k^s
+    private double productZipfExponent = 1.07;
+
+    // Repeat-customer skew, milder than product popularity
+    private double customerZipfExponent = 0.6;
+
+    // Relative order volume per calendar month, January first
+    private List<Double> monthlyWeights = new ArrayList<>(List.of(
+            0.8, 0.8, 1.0, 1.4, 1.7, 1.6, 1.1, 1.0, 1.1, 1.6, 1.8, 1.0));
+
+    // Year-over-year growth in order volume
+    private double yearlyGrowth = 0.25;
+
+    // Share of delivered warranties that have had a claim filed
+    private double warrantyClaimRate = 0.04;
+
+    // Rows per JDBC batch
+    private int batchSize = 1_000;
+
+    private String adminEmail;
+    private String adminPassword;
+
+    // Every generated customer signs in with this password
+    private String customerPassword = "customer123";
+
+    // Shut down once the data is written, for filling an external database
+    private boolean exitOnFinish = false;
+
+    public LocalDate resolveEndDate() {
+        return endDate != null ? endDate : LocalDate.now();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Samples days in a date range weighted by calendar month, weekday and
+ * compound yearly growth, so generated orders peak in summer and the
+ * festive season and the most recent year is the busiest.
+ */
+public final class SeasonalCalendar {
+
+    private static final double WEEKEND_WEIGHT = 1.3;
+
+    private final LocalDate start;
+    private final double[] cumulative;
+
+    public SeasonalCalendar(LocalDate start, LocalDate end, List<Double> monthlyWeights, double yearlyGrowth) {
+        if (monthlyWeights.size() != 12) {
+            throw new IllegalArgumentException("Expected 12 monthly weights, got " + monthlyWeights.size());
+        }
+        this.start = start;
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        cumulative = new double[days];
+        double sum = 0;
+        for (int i = 0; i < days; i++) {
+            LocalDate day = start.plusDays(i);
+            double weight = monthlyWeights.get(day.getMonthValue() - 1)
+                    * Math.pow(1 + yearlyGrowth, i / 365.0);
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                weight *= WEEKEND_WEIGHT;
+            }
+            sum += weight;
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < days; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public LocalDate sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int day = index >= 0 ? index : -index - 1;
+        return start.plusDays(Math.min(day, cumulative.length - 1));
+    }
+}
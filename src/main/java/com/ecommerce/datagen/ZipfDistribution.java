@@ -0,0 +1,34 @@
+package com.ecommerce.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks 0..n-1 where rank k has weight 1/(k+1)^s, by binary search
+ * over a precomputed cumulative table.
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Zipf distribution needs at least one element");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
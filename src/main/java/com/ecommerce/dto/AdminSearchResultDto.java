@@ -0,0 +1,40 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.search.SearchEntityType;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminSearchResultDto {
+    private String query;
+    
+    // Best matches first, across all requested entity types
+    private List<HitDto> hits;
+    
+    // Matches per type among the ranked candidates
+    private Map<SearchEntityType, Integer> counts;
+    
+    // More documents matched than admin-search.candidate-limit; refine the query
+    private boolean truncated;
+    
+    // False while the index is still being built after startup
+    private boolean indexComplete;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HitDto {
+        private SearchEntityType type;
+        private Long id;
+        private String title;
+        private String subtitle;
+        private String href;
+        private int score;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCancelResultDto {
+
+    // Distinct order ids in the request
+    private int requested;
+    private List<Long> cancelled;
+    private List<SkippedOrder> skipped;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SkippedOrder {
+
+        private Long orderId;
+        private String reason;
+    }
+}
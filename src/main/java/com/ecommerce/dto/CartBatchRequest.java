@@ -0,0 +1,44 @@
+package com.ecommerce.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBatchRequest {
+
+    @NotEmpty(message = "At least one cart operation is required")
+    @Size(max = 100, message = "A batch may contain at most 100 operations")
+    private List<@Valid Operation> operations;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotNull(message = "Operation type is required")
+        private OperationType type;
+
+        @NotNull(message = "Product ID is required")
+        private Long productId;
+
+        // Ignored for REMOVE; for UPDATE a quantity <= 0 removes the line
+        private Integer quantity;
+    }
+
+    public enum OperationType {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+}
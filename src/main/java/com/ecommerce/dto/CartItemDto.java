@@ -1,6 +1,7 @@
 package com.ecommerce.dto;
 
 import com.ecommerce.entity.CartItem;
+import com.ecommerce.entity.Product;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -24,19 +25,25 @@ public class CartItemDto {
     private Integer availableStock;
     
     public static CartItemDto fromEntity(CartItem item) {
-        BigDecimal price = item.getProduct().getPrice();
+        CartItemDto dto = fromProduct(item.getProduct(), item.getQuantity());
+        dto.setId(item.getId());
+        return dto;
+    }
+    
+    // Used for guest carts, which have no persistent cart item
+    public static CartItemDto fromProduct(Product product, int quantity) {
+        BigDecimal price = product.getPrice();
         return CartItemDto.builder()
-                .id(item.getId())
-                .productId(item.getProduct().getId())
-                .productName(item.getProduct().getName())
-                .productSku(item.getProduct().getSku())
-                .productImage(item.getProduct().getImageUrl())
-                .productColor(item.getProduct().getColor())
-                .productSize(item.getProduct().getSize())
+                .productId(product.getId())
+                .productName(product.getName())
+                .productSku(product.getSku())
+                .productImage(product.getImageUrl())
+                .productColor(product.getColor())
+                .productSize(product.getSize())
                 .unitPrice(price)
-                .quantity(item.getQuantity())
-                .totalPrice(price.multiply(BigDecimal.valueOf(item.getQuantity())))
-                .availableStock(item.getProduct().getStockQuantity())
+                .quantity(quantity)
+                .totalPrice(price.multiply(BigDecimal.valueOf(quantity)))
+                .availableStock(product.getStockQuantity())
                 .build();
     }
 }
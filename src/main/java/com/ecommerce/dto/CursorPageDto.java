@@ -0,0 +1,17 @@
+package com.ecommerce.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One keyset page. Pass nextCursor back as the cursor parameter to get the
+ * following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+}
@@ -28,12 +28,15 @@ public class CustomerDashboardDto {
     private BigDecimal totalSpent;
     private BigDecimal averageOrderValue;
     private LocalDateTime lastPurchaseDate;
+    private Long totalWarranties;
     
-    // Purchase History
+    // Purchase History (one page, newest first; cursor is null on the last page)
     private List<PurchaseHistoryDto> purchaseHistory;
+    private String purchaseHistoryCursor;
     
-    // Active Warranties
+    // Warranties (one page, soonest to expire first)
     private List<WarrantyStatusDto> warranties;
+    private String warrantiesCursor;
     
     @Data
     @NoArgsConstructor
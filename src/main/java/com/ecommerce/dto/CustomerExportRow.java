@@ -0,0 +1,27 @@
+package com.ecommerce.dto;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One customer in the bulk export, selected as a JPQL constructor
+ * projection so streamed rows never enter the persistence context.
+ */
+@Value
+public class CustomerExportRow {
+    Long id;
+    String name;
+    String email;
+    String phone;
+    String address;
+    String city;
+    String state;
+    String zipCode;
+    String country;
+    Integer totalOrders;
+    BigDecimal lifetimeSpent;
+    Boolean enabled;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.dto;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Aggregates over one customer's orders. The paid total and last purchase
+ * are null when the customer has no (paid) orders.
+ */
+@Value
+public class CustomerOrderStats {
+    long orderCount;
+    BigDecimal paidTotal;
+    LocalDateTime lastPurchase;
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestCartDto {
+
+    // Signed cart token the client must send back on the next call
+    private String token;
+    private List<CartItemDto> items;
+    private BigDecimal total;
+    private Integer itemCount;
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.entity.Order;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One order line in the bulk export: the order columns repeated for each of
+ * its items, or once with empty item columns for an order without items.
+ */
+@Value
+public class OrderExportRow {
+    Long orderId;
+    String orderNumber;
+    Long customerId;
+    String customerEmail;
+    Order.OrderStatus status;
+    Order.PaymentStatus paymentStatus;
+    String paymentMethod;
+    BigDecimal subtotal;
+    BigDecimal discountAmount;
+    BigDecimal taxAmount;
+    BigDecimal shippingAmount;
+    BigDecimal totalAmount;
+    String shippingCity;
+    String shippingState;
+    String shippingCountry;
+    String trackingNumber;
+    String carrier;
+    LocalDateTime createdAt;
+    LocalDateTime actualDelivery;
+    Long itemId;
+    Long productId;
+    String productSku;
+    String productName;
+    Integer quantity;
+    BigDecimal unitPrice;
+    BigDecimal totalPrice;
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.exception.BadRequestException;
+import com.ecommerce.export.CsvReader;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTrackingBatchRequest {
+
+    @NotEmpty(message = "At least one order update is required")
+    private List<Row> updates;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        // Either the order ID or the order number identifies the order
+        private Long orderId;
+        private String orderNumber;
+
+        // Defaults to SHIPPED when only tracking details are given
+        private String status;
+        private String trackingNumber;
+        private String carrier;
+        private String estimatedDelivery;
+    }
+
+    /**
+     * Parses a warehouse manifest: a header row naming the columns
+     * (orderId, orderNumber, status, trackingNumber, carrier, estimatedDelivery)
+     * followed by one line per order. Values containing commas are quoted,
+     * as in "FedEx, Inc".
+     */
+    public static OrderTrackingBatchRequest fromCsv(String csv) {
+        if (csv == null || csv.isBlank()) {
+            throw new BadRequestException("Manifest is empty");
+        }
+
+        List<List<String>> records;
+        try {
+            records = CsvReader.parse(csv);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Malformed manifest: " + e.getMessage());
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("orderid") && !columns.containsKey("ordernumber")) {
+            throw new BadRequestException("Manifest header must contain an orderId or orderNumber column");
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (int i = 1; i < records.size(); i++) {
+            List<String> values = records.get(i);
+            String orderId = column(values, columns, "orderid");
+            rows.add(Row.builder()
+                    .orderId(parseOrderId(orderId, i + 1))
+                    .orderNumber(column(values, columns, "ordernumber"))
+                    .status(column(values, columns, "status"))
+                    .trackingNumber(column(values, columns, "trackingnumber"))
+                    .carrier(column(values, columns, "carrier"))
+                    .estimatedDelivery(column(values, columns, "estimateddelivery"))
+                    .build());
+        }
+
+        if (rows.isEmpty()) {
+            throw new BadRequestException("Manifest contains no order lines");
+        }
+        return new OrderTrackingBatchRequest(rows);
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseOrderId(String value, int line) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid order ID '" + value + "' on line " + line);
+        }
+    }
+}
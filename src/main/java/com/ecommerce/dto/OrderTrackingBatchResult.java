@@ -0,0 +1,38 @@
+package com.ecommerce.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTrackingBatchResult {
+
+    private int updated;
+    private int notFound;
+    private int skipped;
+    private int invalid;
+    private List<RowResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+
+        // 1-based position of the row in the request
+        private int row;
+        private String order;
+        private Outcome result;
+        private String message;
+    }
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        // The order is cancelled or delivered and can no longer change
+        SKIPPED,
+        INVALID
+    }
+}
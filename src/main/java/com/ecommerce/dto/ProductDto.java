@@ -5,6 +5,7 @@ import jakarta.validation.constraints.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
 import java.util.Set;
 
 @Data
@@ -69,7 +70,7 @@ public class ProductDto {
                 .color(product.getColor())
                 .size(product.getSize())
                 .imageUrl(product.getImageUrl())
-                .additionalImages(product.getAdditionalImages())
+                .additionalImages(new HashSet<>(product.getAdditionalImages()))
                 .warrantyPeriodMonths(product.getWarrantyPeriodMonths())
                 .active(product.getActive())
                 .featured(product.getFeatured())
@@ -0,0 +1,80 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.entity.InventoryItem;
+import com.ecommerce.entity.Product;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SerialLookupDto {
+    private String serialNumber;
+
+    private List<ProductRefDto> products;
+
+    // Newest first, at most the lookup limit
+    private List<WarrantyDto> warranties;
+
+    // All warranties registered under the serial
+    private int warrantyCount;
+
+    private List<InventoryItemRefDto> inventoryItems;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ProductRefDto {
+        private Long id;
+        private String name;
+        private String sku;
+        private String serialNumber;
+        private Integer warrantyPeriodMonths;
+
+        public static ProductRefDto fromEntity(Product product) {
+            return ProductRefDto.builder()
+                    .id(product.getId())
+                    .name(product.getName())
+                    .sku(product.getSku())
+                    .serialNumber(product.getSerialNumber())
+                    .warrantyPeriodMonths(product.getWarrantyPeriodMonths())
+                    .build();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class InventoryItemRefDto {
+        private Long id;
+        private String itemId;
+        private String name;
+        private String serialNumber;
+        private String customerName;
+        private InventoryItem.ItemStatus status;
+        private LocalDate productWarrantyEndDate;
+        private boolean productWarrantyValid;
+        private LocalDate motorWarrantyEndDate;
+        private boolean motorWarrantyValid;
+
+        public static InventoryItemRefDto fromEntity(InventoryItem item) {
+            return InventoryItemRefDto.builder()
+                    .id(item.getId())
+                    .itemId(item.getItemId())
+                    .name(item.getName())
+                    .serialNumber(item.getSerialNumber())
+                    .customerName(item.getCustomerName())
+                    .status(item.getStatus())
+                    .productWarrantyEndDate(item.getProductWarrantyEndDate())
+                    .productWarrantyValid(item.isProductWarrantyValid())
+                    .motorWarrantyEndDate(item.getMotorWarrantyEndDate())
+                    .motorWarrantyValid(item.isMotorWarrantyValid())
+                    .build();
+        }
+    }
+}
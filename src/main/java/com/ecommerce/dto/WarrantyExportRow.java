@@ -0,0 +1,25 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.entity.Warranty;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+@Value
+public class WarrantyExportRow {
+    Long id;
+    String warrantyNumber;
+    String serialNumber;
+    Long productId;
+    String productSku;
+    String productName;
+    Long customerId;
+    String customerEmail;
+    String orderNumber;
+    LocalDate purchaseDate;
+    LocalDate warrantyStartDate;
+    LocalDate warrantyEndDate;
+    Warranty.WarrantyStatus status;
+    Boolean claimFiled;
+    Integer claimCount;
+}
@@ -13,5 +13,7 @@ public class LoginRequest {
     
     @NotBlank(message = "Password is required")
     private String password;
+    
+    // Signed anonymous cart to merge into the account cart
+    private String guestCartToken;
 }
-
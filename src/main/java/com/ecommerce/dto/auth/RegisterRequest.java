@@ -25,5 +25,7 @@ public class RegisterRequest {
     private String state;
     private String zipCode;
     private String country;
+    
+    // Signed anonymous cart to merge into the account cart
+    private String guestCartToken;
 }
-
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "cart_items")
+@NamedEntityGraph(name = "CartItem.product", attributeNodes = @NamedAttributeNode("product"))
 @Getter
 @Setter
 @NoArgsConstructor
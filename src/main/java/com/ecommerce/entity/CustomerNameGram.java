@@ -0,0 +1,40 @@
+package com.ecommerce.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * One trigram of a user's normalized name. The primary key (gram, user_id)
+ * is the search index: a term's grams are looked up there and the users
+ * holding all of them are candidates. Rows are written by
+ * {@link com.ecommerce.repository.CustomerSearchJdbcRepository}.
+ */
+@Entity
+@Table(name = "customer_name_grams", indexes = {
+        @Index(name = "idx_customer_name_grams_user", columnList = "user_id")
+})
+@IdClass(CustomerNameGram.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerNameGram {
+
+    @Id
+    @Column(length = 3)
+    private String gram;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String gram;
+        private Long userId;
+    }
+}
@@ -11,6 +11,7 @@ import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "inventory_items")
+@NamedEntityGraph(name = "InventoryItem.category", attributeNodes = @NamedAttributeNode("category"))
 @Getter
 @Setter
 @NoArgsConstructor
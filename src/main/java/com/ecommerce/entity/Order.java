@@ -11,7 +11,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Customer purchase history, keyset-paged newest first
+        @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, id")
+})
+// Lists fetch the customer with each order; their items come in batches
+// (hibernate.default_batch_fetch_size) so paging still happens in SQL
+@NamedEntityGraph(name = "Order.summary", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("appliedDiscount")
+})
+@NamedEntityGraph(name = "Order.detail", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("appliedDiscount"),
+        @NamedAttributeNode(value = "items", subgraph = "items")
+}, subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("product")))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -3,6 +3,8 @@ package com.ecommerce.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,7 +14,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 @Table(name = "products")
+@NamedEntityGraph(name = "Product.category", attributeNodes = @NamedAttributeNode("category"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -64,6 +69,7 @@ public class Product {
     private String imageUrl;
     
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product-images")
     @CollectionTable(name = "product_images", joinColumns = @JoinColumn(name = "product_id"))
     @Column(name = "image_url")
     @Builder.Default
@@ -0,0 +1,46 @@
+package com.ecommerce.entity;
+
+import com.ecommerce.search.SearchEntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the admin search index: the display fields of an indexed
+ * entity and its normalized search text. The id encodes the entity type
+ * and id (see {@link SearchEntityType#documentId}). Rows are written by
+ * {@link com.ecommerce.repository.AdminSearchJdbcRepository}.
+ */
+@Entity
+@Table(name = "search_documents")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocument {
+
+    @Id
+    @Column(name = "doc_id")
+    private Long docId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SearchEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String subtitle;
+
+    // Space-separated normalized words; the LIKE check of a gram lookup
+    @Column(nullable = false, length = 1000)
+    private String text;
+
+    // updated_at of the source row this document was built from; startup
+    // reindexes rows that have moved past it
+    private LocalDateTime sourceUpdatedAt;
+}
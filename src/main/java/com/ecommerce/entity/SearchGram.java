@@ -0,0 +1,39 @@
+package com.ecommerce.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * One trigram of a search document. The primary key (gram, doc_id) keeps
+ * the documents holding a gram sorted by id, so several grams intersect as
+ * a merge join.
+ */
+@Entity
+@Table(name = "search_grams", indexes = {
+        @Index(name = "idx_search_grams_doc", columnList = "doc_id")
+})
+@IdClass(SearchGram.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchGram {
+
+    @Id
+    @Column(length = 3)
+    private String gram;
+
+    @Id
+    @Column(name = "doc_id")
+    private Long docId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String gram;
+        private Long docId;
+    }
+}
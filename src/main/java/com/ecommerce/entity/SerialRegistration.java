@@ -0,0 +1,53 @@
+package com.ecommerce.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * One record carrying a serial number: a product, a warranty or an
+ * inventory item. The primary key (serial_key, record_type, record_id) is
+ * the lookup index, so every record with a serial is found in one probe
+ * whichever table it lives in. Rows are written by
+ * {@link com.ecommerce.repository.SerialRegistryJdbcRepository}.
+ */
+@Entity
+@Table(name = "serial_registry", indexes = {
+        @Index(name = "idx_serial_registry_record", columnList = "record_id, record_type")
+})
+@IdClass(SerialRegistration.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerialRegistration {
+
+    @Id
+    @Column(name = "serial_key")
+    private String serialKey;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "record_type", length = 20)
+    private RecordType recordType;
+
+    @Id
+    @Column(name = "record_id")
+    private Long recordId;
+
+    public enum RecordType {
+        PRODUCT,
+        WARRANTY,
+        INVENTORY_ITEM
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String serialKey;
+        private RecordType recordType;
+        private Long recordId;
+    }
+}
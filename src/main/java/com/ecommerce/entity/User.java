@@ -1,5 +1,6 @@
 package com.ecommerce.entity;
 
+import com.ecommerce.search.SearchKeys;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -13,7 +14,11 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Customer search lookups, keyset-paged by id
+        @Index(name = "idx_users_email_key", columnList = "email_key, id"),
+        @Index(name = "idx_users_phone_key", columnList = "phone_key, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +55,14 @@ public class User {
     
     private String country;
     
+    // Normalized search keys, derived from email, phone and name on save
+    private String emailKey;
+    
+    @Column(length = 20)
+    private String phoneKey;
+    
+    private String nameKey;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -78,6 +91,14 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
     
+    @PrePersist
+    @PreUpdate
+    private void updateSearchKeys() {
+        this.emailKey = SearchKeys.emailKey(email);
+        this.phoneKey = SearchKeys.phoneKey(phone);
+        this.nameKey = SearchKeys.nameKey(name);
+    }
+    
     public enum Role {
         CUSTOMER, ADMIN
     }
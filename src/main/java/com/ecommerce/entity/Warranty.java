@@ -9,7 +9,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "warranties")
+@Table(name = "warranties", indexes = {
+        // Customer warranties, keyset-paged by end date
+        @Index(name = "idx_warranties_user_end", columnList = "user_id, warranty_end_date, id")
+})
+@NamedEntityGraph(name = "Warranty.details", attributeNodes = {
+        @NamedAttributeNode("product"),
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("order")
+})
 @Getter
 @Setter
 @NoArgsConstructor
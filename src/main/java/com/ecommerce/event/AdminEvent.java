@@ -0,0 +1,31 @@
+package com.ecommerce.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Change notification pushed to open admin consoles. Published through the
+ * Spring event publisher and delivered by {@link AdminEventBus} after commit.
+ */
+@Getter
+@AllArgsConstructor
+public class AdminEvent {
+
+    private final Type type;
+    private final Map<String, Object> data;
+    private final LocalDateTime timestamp;
+
+    public static AdminEvent of(Type type, Map<String, Object> data) {
+        return new AdminEvent(type, data, LocalDateTime.now());
+    }
+
+    public enum Type {
+        ORDER_CREATED,
+        PAYMENT_STATUS,
+        ORDER_CANCELLED,
+        LOW_STOCK
+    }
+}
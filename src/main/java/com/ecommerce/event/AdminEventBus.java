@@ -0,0 +1,206 @@
+package com.ecommerce.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process fan-out of {@link AdminEvent}s to Server-Sent Event subscribers.
+ * Every subscriber has its own bounded buffer; when a slow console falls
+ * behind, the oldest events are dropped and the console is told how many it
+ * missed, so publishers never block on a client. Each subscriber drains its
+ * buffer on its own thread, so a send stuck on one client's socket never
+ * delays the others.
+ */
+@Component
+@Slf4j
+public class AdminEventBus {
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    // Unbounded but only busy while a subscriber has events to send, so it
+    // holds at most one thread per connected console; idle threads expire
+    private final ExecutorService dispatcher;
+
+    public AdminEventBus(@Value("${admin-events.buffer-size:256}") int bufferSize,
+                         @Value("${admin-events.timeout:1800000}") long timeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "admin-events-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        subscriber.offer(new Message(null, "CONNECTED", Map.of("subscribers", subscribers.size())));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Runs after the publishing transaction commits, so consoles never see
+    // changes that were rolled back; events published outside a transaction
+    // are delivered immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdminEvent(AdminEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>(event.getData());
+        data.put("timestamp", event.getTimestamp());
+        Message message = new Message(sequence.incrementAndGet(), event.getType().name(), data);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(message);
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects closed clients
+    @Scheduled(fixedDelayString = "${admin-events.heartbeat:20000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(Message.HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    @AllArgsConstructor
+    private static class Message {
+
+        static final Message HEARTBEAT = new Message(null, null, null);
+
+        private final Long id;
+        private final String name;
+        private final Object data;
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(String.valueOf(id)) : event;
+        }
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Deque<Message> buffer = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private int dropped;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            lock.lock();
+            try {
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    dropped++;
+                }
+                buffer.addLast(message);
+            } finally {
+                lock.unlock();
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    Message message;
+                    int missed;
+                    lock.lock();
+                    try {
+                        message = buffer.pollFirst();
+                        missed = dropped;
+                        dropped = 0;
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (message == null) {
+                        break;
+                    }
+                    if (missed > 0) {
+                        emitter.send(SseEmitter.event().name("DROPPED").data(Map.of("missed", missed)));
+                    }
+                    emitter.send(message.toEvent());
+                }
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Admin event subscriber disconnected: {}", ex.getMessage());
+                subscribers.remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            // An offer may have raced with the end of this drain
+            if (hasPending()) {
+                scheduleDrain();
+            }
+        }
+
+        private boolean hasPending() {
+            lock.lock();
+            try {
+                return !buffer.isEmpty();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    
+    // Suggested client back-off, sent as the Retry-After header
+    private final long retryAfterSeconds;
+    
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecommerce.export;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses RFC 4180 CSV, the format {@link CsvWriter} produces. Quoted fields
+ * may contain commas, line breaks and doubled quotes; unquoted fields are
+ * taken as they are. Lines may end in \n or \r\n.
+ */
+public final class CsvReader {
+
+    private CsvReader() {
+    }
+
+    /**
+     * The records of a CSV text, each as its list of fields. Blank lines
+     * are skipped.
+     *
+     * @throws IllegalArgumentException on a quote that is never closed or a
+     *         closing quote followed by anything but a separator
+     */
+    public static List<List<String>> parse(String text) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean afterQuote = false;
+        int line = 1;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append(c);
+                }
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                endRecord(records, record, field);
+                record = new ArrayList<>();
+                afterQuote = false;
+                line++;
+            } else if (afterQuote) {
+                if (c != ' ' && c != '\t') {
+                    throw new IllegalArgumentException("Unexpected character after closing quote on line " + line);
+                }
+            } else if (c == '"' && field.toString().isBlank()) {
+                // Spaces before an opening quote are padding, not content
+                field.setLength(0);
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field on line " + line);
+        }
+        endRecord(records, record, field);
+        return records;
+    }
+
+    private static void endRecord(List<List<String>> records, List<String> record, StringBuilder field) {
+        record.add(field.toString());
+        field.setLength(0);
+        if (record.size() > 1 || !record.get(0).isBlank()) {
+            records.add(record);
+        }
+    }
+}
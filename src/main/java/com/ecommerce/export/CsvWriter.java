@@ -0,0 +1,108 @@
+package com.ecommerce.export;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Writes RFC 4180 CSV straight to a writer, one field at a time. Fields
+ * containing a comma, quote or line break are quoted; null is written as
+ * an empty field.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private final Writer out;
+    private boolean rowStarted;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public CsvWriter row(String... fields) throws IOException {
+        for (String field : fields) {
+            field(field);
+        }
+        return endRow();
+    }
+
+    public CsvWriter field(String value) throws IOException {
+        separate();
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+        if (needsQuoting(value)) {
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.write('"');
+                }
+                out.write(c);
+            }
+            out.write('"');
+        } else {
+            out.write(value);
+        }
+        return this;
+    }
+
+    public CsvWriter field(Object value) throws IOException {
+        if (value instanceof BigDecimal decimal) {
+            return field(decimal.toPlainString());
+        }
+        return field(value != null ? value.toString() : null);
+    }
+
+    public CsvWriter field(long value) throws IOException {
+        separate();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    // Two decimal places, rounded half up like %.2f
+    public CsvWriter money(BigDecimal value) throws IOException {
+        return field(value != null ? value.setScale(2, RoundingMode.HALF_UP).toPlainString() : null);
+    }
+
+    public CsvWriter endRow() throws IOException {
+        out.write('\n');
+        rowStarted = false;
+        return this;
+    }
+
+    // Section titles and blank lines of multi-part exports
+    public CsvWriter line(String text) throws IOException {
+        out.write(text);
+        return endRow();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void separate() throws IOException {
+        if (rowStarted) {
+            out.write(',');
+        }
+        rowStarted = true;
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,290 @@
+package com.ecommerce.export;
+
+import com.ecommerce.dto.CustomerExportRow;
+import com.ecommerce.dto.OrderExportRow;
+import com.ecommerce.dto.WarrantyExportRow;
+import com.ecommerce.exception.TooManyRequestsException;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.UserRepository;
+import com.ecommerce.repository.WarrantyRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Bulk exports of customers, orders and warranties. Rows are read as
+ * constructor projections through a forward-only cursor and written to the
+ * output as they arrive, so heap use does not grow with the table size.
+ * The caller owns the output stream; it is flushed but not closed.
+ */
+@Service
+@RequiredArgsConstructor
+public class DataExportService {
+
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final WarrantyRepository warrantyRepository;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+
+    private Semaphore slots;
+
+    @PostConstruct
+    public void init() {
+        slots = new Semaphore(properties.getMaxConcurrent());
+    }
+
+    /**
+     * Takes one of the export slots, or fails with 429 when all are busy.
+     * Close the slot once the export has been written.
+     */
+    public Slot acquireSlot() {
+        if (!slots.tryAcquire()) {
+            throw new TooManyRequestsException("Too many exports running, please retry later",
+                    properties.getRetryAfterSeconds());
+        }
+        return slots::release;
+    }
+
+    @Timed(value = "export.run", extraTags = {"dataset", "customers"})
+    @Transactional(readOnly = true)
+    public long exportCustomers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<CustomerExportRow> rows = userRepository.streamCustomersForExport()) {
+            return format == ExportFormat.CSV ? writeCustomersCsv(rows.iterator(), out) : writeNdjson(rows.iterator(), out);
+        }
+    }
+
+    /**
+     * CSV has one line per order item; NDJSON has one object per order with
+     * its items nested.
+     */
+    @Timed(value = "export.run", extraTags = {"dataset", "orders"})
+    @Transactional(readOnly = true)
+    public long exportOrders(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<OrderExportRow> rows = orderRepository.streamOrderLinesForExport()) {
+            return format == ExportFormat.CSV ? writeOrdersCsv(rows.iterator(), out) : writeOrdersNdjson(rows.iterator(), out);
+        }
+    }
+
+    @Timed(value = "export.run", extraTags = {"dataset", "warranties"})
+    @Transactional(readOnly = true)
+    public long exportWarranties(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<WarrantyExportRow> rows = warrantyRepository.streamWarrantiesForExport()) {
+            return format == ExportFormat.CSV ? writeWarrantiesCsv(rows.iterator(), out) : writeNdjson(rows.iterator(), out);
+        }
+    }
+
+    private long writeCustomersCsv(Iterator<CustomerExportRow> rows, OutputStream out) throws IOException {
+        CsvWriter csv = csvWriter(out);
+        csv.row("ID", "Name", "Email", "Phone", "Address", "City", "State", "Zip", "Country",
+                "Total Orders", "Lifetime Spent", "Enabled", "Member Since");
+        long count = 0;
+        while (rows.hasNext()) {
+            CustomerExportRow row = rows.next();
+            csv.field(row.getId())
+                    .field(row.getName())
+                    .field(row.getEmail())
+                    .field(row.getPhone())
+                    .field(row.getAddress())
+                    .field(row.getCity())
+                    .field(row.getState())
+                    .field(row.getZipCode())
+                    .field(row.getCountry())
+                    .field(row.getTotalOrders())
+                    .field(row.getLifetimeSpent())
+                    .field(row.getEnabled())
+                    .field(row.getCreatedAt())
+                    .endRow();
+            count++;
+        }
+        csv.flush();
+        return count;
+    }
+
+    private long writeOrdersCsv(Iterator<OrderExportRow> rows, OutputStream out) throws IOException {
+        CsvWriter csv = csvWriter(out);
+        csv.row("Order ID", "Order Number", "Customer ID", "Customer Email", "Status", "Payment Status",
+                "Payment Method", "Subtotal", "Discount", "Tax", "Shipping", "Total", "Shipping City",
+                "Shipping State", "Shipping Country", "Tracking Number", "Carrier", "Created At", "Delivered At",
+                "Item ID", "Product ID", "SKU", "Product", "Quantity", "Unit Price", "Line Total");
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            csv.field(row.getOrderId())
+                    .field(row.getOrderNumber())
+                    .field(row.getCustomerId())
+                    .field(row.getCustomerEmail())
+                    .field(row.getStatus())
+                    .field(row.getPaymentStatus())
+                    .field(row.getPaymentMethod())
+                    .field(row.getSubtotal())
+                    .field(row.getDiscountAmount())
+                    .field(row.getTaxAmount())
+                    .field(row.getShippingAmount())
+                    .field(row.getTotalAmount())
+                    .field(row.getShippingCity())
+                    .field(row.getShippingState())
+                    .field(row.getShippingCountry())
+                    .field(row.getTrackingNumber())
+                    .field(row.getCarrier())
+                    .field(row.getCreatedAt())
+                    .field(row.getActualDelivery())
+                    .field(row.getItemId())
+                    .field(row.getProductId())
+                    .field(row.getProductSku())
+                    .field(row.getProductName())
+                    .field(row.getQuantity())
+                    .field(row.getUnitPrice())
+                    .field(row.getTotalPrice())
+                    .endRow();
+            count++;
+        }
+        csv.flush();
+        return count;
+    }
+
+    private long writeWarrantiesCsv(Iterator<WarrantyExportRow> rows, OutputStream out) throws IOException {
+        CsvWriter csv = csvWriter(out);
+        csv.row("ID", "Warranty Number", "Serial Number", "Product ID", "SKU", "Product", "Customer ID",
+                "Customer Email", "Order Number", "Purchase Date", "Start Date", "End Date", "Status",
+                "Claim Filed", "Claim Count");
+        long count = 0;
+        while (rows.hasNext()) {
+            WarrantyExportRow row = rows.next();
+            csv.field(row.getId())
+                    .field(row.getWarrantyNumber())
+                    .field(row.getSerialNumber())
+                    .field(row.getProductId())
+                    .field(row.getProductSku())
+                    .field(row.getProductName())
+                    .field(row.getCustomerId())
+                    .field(row.getCustomerEmail())
+                    .field(row.getOrderNumber())
+                    .field(row.getPurchaseDate())
+                    .field(row.getWarrantyStartDate())
+                    .field(row.getWarrantyEndDate())
+                    .field(row.getStatus())
+                    .field(row.getClaimFiled())
+                    .field(row.getClaimCount())
+                    .endRow();
+            count++;
+        }
+        csv.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<?> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator json = jsonGenerator(out)) {
+            while (rows.hasNext()) {
+                json.writeObject(rows.next());
+                json.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Rows arrive grouped by order, so each order is closed as soon as the
+    // next one starts
+    private long writeOrdersNdjson(Iterator<OrderExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator json = jsonGenerator(out)) {
+            Long currentOrderId = null;
+            while (rows.hasNext()) {
+                OrderExportRow row = rows.next();
+                if (!Objects.equals(row.getOrderId(), currentOrderId)) {
+                    if (currentOrderId != null) {
+                        endOrder(json);
+                    }
+                    startOrder(json, row);
+                    currentOrderId = row.getOrderId();
+                    count++;
+                }
+                if (row.getItemId() != null) {
+                    json.writeStartObject();
+                    json.writeNumberField("id", row.getItemId());
+                    json.writeNumberField("productId", row.getProductId());
+                    json.writeStringField("productSku", row.getProductSku());
+                    json.writeStringField("productName", row.getProductName());
+                    json.writeObjectField("quantity", row.getQuantity());
+                    json.writeObjectField("unitPrice", row.getUnitPrice());
+                    json.writeObjectField("totalPrice", row.getTotalPrice());
+                    json.writeEndObject();
+                }
+            }
+            if (currentOrderId != null) {
+                endOrder(json);
+            }
+        }
+        return count;
+    }
+
+    private static void startOrder(JsonGenerator json, OrderExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", row.getOrderId());
+        json.writeStringField("orderNumber", row.getOrderNumber());
+        json.writeNumberField("customerId", row.getCustomerId());
+        json.writeStringField("customerEmail", row.getCustomerEmail());
+        json.writeObjectField("status", row.getStatus());
+        json.writeObjectField("paymentStatus", row.getPaymentStatus());
+        json.writeStringField("paymentMethod", row.getPaymentMethod());
+        json.writeObjectField("subtotal", row.getSubtotal());
+        json.writeObjectField("discountAmount", row.getDiscountAmount());
+        json.writeObjectField("taxAmount", row.getTaxAmount());
+        json.writeObjectField("shippingAmount", row.getShippingAmount());
+        json.writeObjectField("totalAmount", row.getTotalAmount());
+        json.writeStringField("shippingCity", row.getShippingCity());
+        json.writeStringField("shippingState", row.getShippingState());
+        json.writeStringField("shippingCountry", row.getShippingCountry());
+        json.writeStringField("trackingNumber", row.getTrackingNumber());
+        json.writeStringField("carrier", row.getCarrier());
+        json.writeObjectField("createdAt", row.getCreatedAt());
+        json.writeObjectField("actualDelivery", row.getActualDelivery());
+        json.writeArrayFieldStart("items");
+    }
+
+    private static void endOrder(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private CsvWriter csvWriter(OutputStream out) {
+        return new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                properties.getBufferSize()));
+    }
+
+    // Closing the generator flushes it but leaves the output stream open.
+    // Lines are ended explicitly instead of Jackson's space between root values
+    private JsonGenerator jsonGenerator(OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.setRootValueSeparator(null);
+        return json;
+    }
+
+    /**
+     * A reserved export slot.
+     */
+    public interface Slot extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
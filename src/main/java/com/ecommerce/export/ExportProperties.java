@@ -0,0 +1,23 @@
+package com.ecommerce.export;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulk export settings, bound from export.*.
+ */
+@Component
+@ConfigurationProperties(prefix = "export")
+@Data
+public class ExportProperties {
+
+    // Exports running at once; each holds an admin pool connection until done
+    private int maxConcurrent = 2;
+
+    // Retry-After sent when all export slots are taken
+    private long retryAfterSeconds = 30;
+
+    // Bytes collected before they are written to the response
+    private int bufferSize = 65536;
+}
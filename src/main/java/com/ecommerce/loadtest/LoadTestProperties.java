@@ -0,0 +1,59 @@
+package com.ecommerce.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, bound from load-test.* (loadtest profile).
+ */
+@Component
+@ConfigurationProperties(prefix = "load-test")
+@Data
+public class LoadTestProperties {
+
+    // Target server; empty means the application this runner started in
+    private String baseUrl;
+
+    // Concurrent virtual users, each with its own account and cart
+    private int users = 50;
+
+    // Requests during warm-up are sent but not recorded
+    private int warmupSeconds = 10;
+    private int durationSeconds = 60;
+
+    // Pause between a user's requests; 0 runs closed-loop at full speed
+    private long thinkTimeMs = 0;
+
+    // Relative weight of each scenario in the traffic mix
+    private Map<Scenario, Integer> mix = new LinkedHashMap<>(Map.of(
+            Scenario.BROWSE, 35,
+            Scenario.SEARCH, 25,
+            Scenario.ADD_TO_CART, 15,
+            Scenario.CHECKOUT, 12,
+            Scenario.TRACK_ORDER, 10,
+            Scenario.ADMIN_DASHBOARD, 3));
+
+    // Product every checkout buys, restocked to hot-product-stock before the
+    // run so it sells out and overselling would show up
+    private Long hotProductId;
+    private int hotProductStock = 200;
+
+    // Stock given to every other product so they never run out
+    private int otherProductStock = 1_000_000;
+
+    // Latency samples kept per scenario; later samples are only counted
+    private int maxSamplesPerScenario = 500_000;
+
+    private String adminEmail;
+    private String adminPassword;
+
+    // Directory for the JSON results, one file per run
+    private String resultsDirectory = "target/loadtest";
+
+    // Shut the application down once the results are written
+    private boolean exitOnFinish = true;
+}
@@ -0,0 +1,461 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.loadtest.ScenarioStats.Outcome;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives mixed storefront and admin traffic against the running application
+ * once it is ready, then writes per-scenario throughput, latency
+ * percentiles and hot-product stock accounting to a JSON file.
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestRunner {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String USER_PASSWORD = "loadtest123";
+    private static final String CHECKOUT_BODY = "{\"shippingName\":\"Load Test\",\"shippingAddress\":\"1 Test Street\","
+            + "\"shippingCity\":\"Mumbai\",\"shippingState\":\"MH\",\"shippingZipCode\":\"400001\","
+            + "\"shippingCountry\":\"India\",\"shippingPhone\":\"+91 90000 00000\",\"paymentMethod\":\"COD\"}";
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    // Admin pages use a form-login session, kept apart from the JWT users
+    private final HttpClient adminClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .cookieHandler(new CookieManager())
+            .build();
+
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+    private final LongAdder hotUnitsOrdered = new LongAdder();
+
+    private String baseUrl;
+    private List<Long> productIds;
+    private long hotProductId;
+    private List<String> searchTerms;
+    private long measureFrom;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        int exitCode;
+        try {
+            exitCode = run();
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        }
+        if (properties.isExitOnFinish()) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+
+    private int run() throws Exception {
+        String runId = LocalDateTime.now().format(RUN_ID);
+        baseUrl = properties.getBaseUrl() != null && !properties.getBaseUrl().isBlank()
+                ? properties.getBaseUrl()
+                : "http://localhost:" + environment.getProperty("local.server.port");
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new ScenarioStats(properties.getMaxSamplesPerScenario()));
+        }
+
+        log.info("Load test {} against {}: {} users, {}s warm-up, {}s measured",
+                runId, baseUrl, properties.getUsers(), properties.getWarmupSeconds(), properties.getDurationSeconds());
+        prepareCatalog();
+        signInAdmin();
+        List<String> tokens = registerUsers(runId);
+
+        long start = System.nanoTime();
+        measureFrom = start + TimeUnit.SECONDS.toNanos(properties.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(properties.getDurationSeconds());
+        ExecutorService workers = Executors.newFixedThreadPool(properties.getUsers());
+        List<Future<?>> running = new ArrayList<>();
+        for (String token : tokens) {
+            running.add(workers.submit(() -> new VirtualUser(token).run(end)));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+        workers.shutdown();
+
+        Map<String, Object> hotProduct = stockReport();
+        Map<String, Object> result = report(runId, hotProduct);
+        Path file = writeResults(runId, result);
+        log.info("Load test results written to {}", file);
+
+        boolean oversold = ((Number) hotProduct.get("oversold")).longValue() > 0
+                || ((Number) hotProduct.get("stockDrift")).longValue() != 0;
+        return oversold ? 1 : 0;
+    }
+
+    // Restocks the catalog so only the hot product can sell out, and
+    // collects search terms from real brands and product names
+    private void prepareCatalog() throws Exception {
+        String adminToken = login(properties.getAdminEmail(), properties.getAdminPassword());
+        JsonNode page = readJson(send(get("/api/products?page=0&size=100", null)));
+        productIds = new ArrayList<>();
+        searchTerms = new ArrayList<>();
+        for (JsonNode product : page.path("content")) {
+            productIds.add(product.path("id").asLong());
+            searchTerms.add(product.path("name").asText().split(" ")[0]);
+        }
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("No active products to load test against");
+        }
+        for (JsonNode brand : readJson(send(get("/api/products/brands", null)))) {
+            searchTerms.add(brand.asText());
+        }
+
+        hotProductId = properties.getHotProductId() != null ? properties.getHotProductId() : productIds.get(0);
+        for (Long id : productIds) {
+            int stock = id == hotProductId ? properties.getHotProductStock() : properties.getOtherProductStock();
+            expectOk(send(HttpRequest.newBuilder(uri("/api/admin/products/" + id + "/stock?quantity=" + stock))
+                    .header("Authorization", "Bearer " + adminToken)
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build()), "restock product " + id);
+        }
+        if (!productIds.contains(hotProductId)) {
+            expectOk(send(HttpRequest.newBuilder(uri("/api/admin/products/" + hotProductId
+                            + "/stock?quantity=" + properties.getHotProductStock()))
+                    .header("Authorization", "Bearer " + adminToken)
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build()), "restock hot product");
+        }
+        productIds.remove(Long.valueOf(hotProductId));
+    }
+
+    private void signInAdmin() throws Exception {
+        String form = "username=" + encode(properties.getAdminEmail()) + "&password=" + encode(properties.getAdminPassword());
+        HttpResponse<String> response = adminClient.send(HttpRequest.newBuilder(uri("/admin/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Admin sign-in failed with " + response.statusCode() + " " + location);
+        }
+    }
+
+    private List<String> registerUsers(String runId) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(properties.getUsers(), 8));
+        List<Future<String>> pending = new ArrayList<>();
+        for (int i = 0; i < properties.getUsers(); i++) {
+            String email = "loadtest-" + runId + "-" + i + "@example.com";
+            String name = "Load Test " + i;
+            pending.add(pool.submit(() -> {
+                String body = objectMapper.writeValueAsString(Map.of(
+                        "name", name, "email", email, "password", USER_PASSWORD));
+                HttpResponse<String> response = send(post("/api/auth/register", null, body));
+                expectOk(response, "register " + email);
+                return readJson(response).path("token").asText();
+            }));
+        }
+        List<String> tokens = new ArrayList<>();
+        for (Future<String> future : pending) {
+            tokens.add(future.get());
+        }
+        pool.shutdown();
+        return tokens;
+    }
+
+    private Map<String, Object> stockReport() throws Exception {
+        JsonNode product = readJson(send(get("/api/products/" + hotProductId, null)));
+        long initial = properties.getHotProductStock();
+        long remaining = product.path("stockQuantity").asLong();
+        long ordered = hotUnitsOrdered.sum();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("productId", hotProductId);
+        report.put("initialStock", initial);
+        report.put("finalStock", remaining);
+        report.put("unitsOrdered", ordered);
+        // Units sold beyond the stock that existed
+        report.put("oversold", Math.max(0, ordered - initial));
+        // Non-zero when stock moved by a different amount than was ordered,
+        // i.e. lost or phantom stock updates
+        report.put("stockDrift", (initial - remaining) - ordered);
+        return report;
+    }
+
+    private Map<String, Object> report(String runId, Map<String, Object> hotProduct) {
+        double seconds = properties.getDurationSeconds();
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        log.info(String.format("%-16s %9s %9s %9s %9s %9s %9s %9s",
+                "scenario", "requests", "rps", "p50 ms", "p99 ms", "p999 ms", "rejected", "errors"));
+        for (Scenario scenario : Scenario.values()) {
+            Map<String, Object> summary = stats.get(scenario).summarize(seconds);
+            scenarios.put(scenario.name().toLowerCase(), summary);
+            requests += (long) summary.get("requests");
+            errors += (long) summary.get("errors");
+            log.info(String.format("%-16s %9d %9.1f %9.2f %9.2f %9.2f %9d %9d",
+                    scenario.name().toLowerCase(), summary.get("requests"), summary.get("rps"),
+                    summary.get("p50Ms"), summary.get("p99Ms"), summary.get("p999Ms"),
+                    summary.get("rejected"), summary.get("errors")));
+        }
+        log.info("Total {} requests ({} rps), {} errors; hot product {}",
+                requests, Math.round(requests / seconds), errors, hotProduct);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("baseUrl", baseUrl);
+        config.put("users", properties.getUsers());
+        config.put("warmupSeconds", properties.getWarmupSeconds());
+        config.put("durationSeconds", properties.getDurationSeconds());
+        config.put("thinkTimeMs", properties.getThinkTimeMs());
+        // Execution mode of this application, i.e. of the target unless base-url points elsewhere
+        config.put("threads", Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform");
+        config.put("javaVersion", Runtime.version().feature());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario.name().toLowerCase(), properties.getMix().getOrDefault(scenario, 0));
+        }
+        config.put("mix", mix);
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("requests", requests);
+        totals.put("rps", Math.round(requests / seconds * 1000) / 1000.0);
+        totals.put("errors", errors);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runId", runId);
+        result.put("config", config);
+        result.put("totals", totals);
+        result.put("scenarios", scenarios);
+        result.put("hotProduct", hotProduct);
+        return result;
+    }
+
+    private Path writeResults(String runId, Map<String, Object> result) throws IOException {
+        Path directory = Paths.get(properties.getResultsDirectory());
+        Files.createDirectories(directory);
+        Path file = directory.resolve("loadtest-" + runId + ".json").toAbsolutePath();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), result);
+        return file;
+    }
+
+    /**
+     * One simulated shopper with its own account, cart and order history.
+     */
+    private class VirtualUser {
+
+        private final String token;
+        private final Deque<String> orderNumbers = new ArrayDeque<>();
+        private int hotInCart;
+
+        VirtualUser(String token) {
+            this.token = token;
+        }
+
+        void run(long end) {
+            while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                try {
+                    execute(pickScenario());
+                    if (properties.getThinkTimeMs() > 0) {
+                        Thread.sleep(properties.getThinkTimeMs());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void execute(Scenario scenario) throws InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            switch (scenario) {
+                case BROWSE -> call(scenario, get("/shop", null));
+                case SEARCH -> call(scenario, get("/api/products/search?q="
+                        + encode(searchTerms.get(random.nextInt(searchTerms.size()))), token));
+                case ADD_TO_CART -> call(scenario, addToCart(productIds.isEmpty()
+                        ? hotProductId : productIds.get(random.nextInt(productIds.size()))));
+                case CHECKOUT -> checkout();
+                case TRACK_ORDER -> call(scenario, orderNumbers.isEmpty()
+                        ? get("/api/orders", token)
+                        : get("/api/orders/track/" + orderNumbers.peekLast(), token));
+                case ADMIN_DASHBOARD -> call(scenario, adminClient, get("/dashboard", null));
+            }
+        }
+
+        private void checkout() throws InterruptedException {
+            if (call(Scenario.ADD_TO_CART, addToCart(hotProductId)) != null) {
+                hotInCart++;
+            }
+            HttpResponse<String> response = call(Scenario.CHECKOUT, post("/api/orders/checkout", token, CHECKOUT_BODY));
+            if (response != null) {
+                hotUnitsOrdered.add(hotInCart);
+                hotInCart = 0;
+                try {
+                    orderNumbers.addLast(readJson(response).path("orderNumber").asText());
+                    if (orderNumbers.size() > 20) {
+                        orderNumbers.removeFirst();
+                    }
+                } catch (IOException e) {
+                    log.debug("Unreadable checkout response", e);
+                }
+            } else {
+                // A refused checkout leaves the cart as it was; start over
+                sendQuietly(HttpRequest.newBuilder(uri("/api/cart/clear"))
+                        .header("Authorization", "Bearer " + token)
+                        .DELETE()
+                        .build());
+                hotInCart = 0;
+            }
+        }
+
+        private HttpRequest addToCart(long productId) {
+            return post("/api/cart/add?productId=" + productId + "&quantity=1", token, "");
+        }
+
+        private HttpResponse<String> call(Scenario scenario, HttpRequest request) throws InterruptedException {
+            return call(scenario, client, request);
+        }
+
+        // Returns the response when it was a 2xx, otherwise null
+        private HttpResponse<String> call(Scenario scenario, HttpClient httpClient, HttpRequest request)
+                throws InterruptedException {
+            long started = System.nanoTime();
+            Outcome outcome;
+            HttpResponse<String> response = null;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                outcome = classify(response.statusCode());
+            } catch (IOException e) {
+                outcome = Outcome.ERROR;
+            }
+            if (started >= measureFrom) {
+                stats.get(scenario).record(outcome, System.nanoTime() - started);
+            }
+            return outcome == Outcome.OK ? response : null;
+        }
+
+        private Scenario pickScenario() {
+            int total = properties.getMix().values().stream().mapToInt(Integer::intValue).sum();
+            int pick = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Scenario, Integer> entry : properties.getMix().entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    return entry.getKey();
+                }
+            }
+            return Scenario.BROWSE;
+        }
+
+        private void sendQuietly(HttpRequest request) throws InterruptedException {
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                log.debug("Request failed: {}", request.uri(), e);
+            }
+        }
+    }
+
+    private static Outcome classify(int status) {
+        if (status >= 200 && status < 300) {
+            return Outcome.OK;
+        }
+        if (status == 429 || status == 503) {
+            return Outcome.THROTTLED;
+        }
+        if (status == 400 || status == 404 || status == 409) {
+            return Outcome.REJECTED;
+        }
+        return Outcome.ERROR;
+    }
+
+    private String login(String email, String password) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", password));
+        HttpResponse<String> response = send(post("/api/auth/login", null, body));
+        expectOk(response, "login as " + email);
+        return readJson(response).path("token").asText();
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode readJson(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static void expectOk(HttpResponse<String> response, String action) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Could not " + action + ": " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
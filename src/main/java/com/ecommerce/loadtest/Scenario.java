@@ -0,0 +1,25 @@
+package com.ecommerce.loadtest;
+
+/**
+ * User journeys in the load test mix.
+ */
+public enum Scenario {
+
+    // GET /shop, the server-rendered catalog page
+    BROWSE,
+
+    // GET /api/products/search with a common term
+    SEARCH,
+
+    // POST /api/cart/add for a random product
+    ADD_TO_CART,
+
+    // Add the hot product, then POST /api/orders/checkout
+    CHECKOUT,
+
+    // GET /api/orders/track for one of the user's own orders
+    TRACK_ORDER,
+
+    // GET /dashboard as a signed-in admin
+    ADMIN_DASHBOARD
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome counts and latency samples for one scenario. Recording is
+ * lock-free so the harness does not add contention of its own.
+ */
+class ScenarioStats {
+
+    private final AtomicLongArray samples;
+    private final AtomicInteger sampleCount = new AtomicInteger();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    ScenarioStats(int maxSamples) {
+        this.samples = new AtomicLongArray(maxSamples);
+    }
+
+    void record(Outcome outcome, long latencyNanos) {
+        switch (outcome) {
+            case OK -> ok.increment();
+            case REJECTED -> rejected.increment();
+            case THROTTLED -> throttled.increment();
+            case ERROR -> errors.increment();
+        }
+        int index = sampleCount.getAndIncrement();
+        if (index < samples.length()) {
+            samples.set(index, latencyNanos);
+        }
+    }
+
+    Map<String, Object> summarize(double seconds) {
+        int count = Math.min(sampleCount.get(), samples.length());
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+
+        long requests = ok.sum() + rejected.sum() + throttled.sum() + errors.sum();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("rps", round(requests / seconds));
+        summary.put("ok", ok.sum());
+        summary.put("rejected", rejected.sum());
+        summary.put("throttled", throttled.sum());
+        summary.put("errors", errors.sum());
+        summary.put("p50Ms", percentileMs(sorted, 0.50));
+        summary.put("p99Ms", percentileMs(sorted, 0.99));
+        summary.put("p999Ms", percentileMs(sorted, 0.999));
+        summary.put("maxMs", count > 0 ? round(sorted[count - 1] / 1e6) : 0.0);
+        return summary;
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return round(sorted[Math.max(0, index)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    enum Outcome {
+        // 2xx
+        OK,
+        // Expected business refusal, e.g. 400 for insufficient stock
+        REJECTED,
+        // 429 from the rate limiter or 503 from a full bulkhead
+        THROTTLED,
+        // 5xx, unexpected 4xx or no response at all
+        ERROR
+    }
+}
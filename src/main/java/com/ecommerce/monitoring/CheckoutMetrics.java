@@ -0,0 +1,151 @@
+package com.ecommerce.monitoring;
+
+import com.ecommerce.monitoring.jfr.CheckoutEvent;
+import com.ecommerce.monitoring.jfr.CheckoutStageEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Business and per-stage metrics for checkout. Stage timers share the
+ * checkout.stage name so a dashboard can stack them into the total; each
+ * stage and the whole checkout are also emitted as flight recorder events.
+ */
+@Component
+public class CheckoutMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter ordersPlaced;
+    private final Counter discountsApplied;
+    private final Counter discountsRejected;
+    private final DistributionSummary orderAmount;
+    private final DistributionSummary orderItems;
+
+    public CheckoutMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.ordersPlaced = Counter.builder("checkout.orders")
+                .description("Orders placed")
+                .register(meterRegistry);
+        this.discountsApplied = Counter.builder("checkout.discounts")
+                .tag("outcome", "applied")
+                .register(meterRegistry);
+        this.discountsRejected = Counter.builder("checkout.discounts")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        this.orderAmount = DistributionSummary.builder("checkout.order.amount")
+                .description("Order total after discount and shipping")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.orderItems = DistributionSummary.builder("checkout.order.items")
+                .description("Line items per order")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts timing a checkout; call {@link Stages#mark} as each stage ends
+     * and {@link Stages#finish} once the order is complete.
+     */
+    public Stages start(Long userId) {
+        return new Stages(userId);
+    }
+
+    /**
+     * Counts the order once its transaction commits, so rolled back
+     * checkouts never show up as sales.
+     */
+    public void orderPlaced(BigDecimal totalAmount, int items) {
+        Runnable record = () -> {
+            ordersPlaced.increment();
+            orderAmount.record(totalAmount.doubleValue());
+            orderItems.record(items);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record.run();
+            }
+        });
+    }
+
+    public void discountApplied() {
+        discountsApplied.increment();
+    }
+
+    public void discountRejected() {
+        discountsRejected.increment();
+    }
+
+    public void checkoutFailed(String reason) {
+        Counter.builder("checkout.failures")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public class Stages {
+
+        private final long userId;
+        private final CheckoutEvent checkoutEvent = new CheckoutEvent();
+        private CheckoutStageEvent stageEvent = new CheckoutStageEvent();
+        private long stageStart = System.nanoTime();
+        private long orderId;
+        private int itemCount;
+
+        Stages(Long userId) {
+            this.userId = userId;
+            checkoutEvent.begin();
+            stageEvent.begin();
+        }
+
+        public void itemCount(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        public void orderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        /**
+         * Records the time since the previous mark under the given stage.
+         */
+        public void mark(String stage) {
+            long now = System.nanoTime();
+            Timer.builder("checkout.stage")
+                    .tag("stage", stage)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(now - stageStart, TimeUnit.NANOSECONDS);
+            stageStart = now;
+
+            if (stageEvent.shouldCommit()) {
+                stageEvent.stage = stage;
+                stageEvent.userId = userId;
+                stageEvent.orderId = orderId;
+                stageEvent.itemCount = itemCount;
+                stageEvent.commit();
+            }
+            stageEvent = new CheckoutStageEvent();
+            stageEvent.begin();
+        }
+
+        public void finish() {
+            if (checkoutEvent.shouldCommit()) {
+                checkoutEvent.userId = userId;
+                checkoutEvent.orderId = orderId;
+                checkoutEvent.itemCount = itemCount;
+                checkoutEvent.commit();
+            }
+        }
+    }
+}
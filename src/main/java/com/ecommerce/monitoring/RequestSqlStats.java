@@ -0,0 +1,53 @@
+package com.ecommerce.monitoring;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements, time and rows of the HTTP request running on this thread.
+ * Only the request thread touches an instance, so plain fields suffice.
+ */
+@Getter
+public class RequestSqlStats {
+
+    // Cap on distinct statements tracked for N+1 detection
+    private static final int MAX_DISTINCT_STATEMENTS = 500;
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+    private long rows;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    /**
+     * Stats of the request on this thread, or null outside a request.
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void recordExecution(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (sql != null && (executionsBySql.size() < MAX_DISTINCT_STATEMENTS || executionsBySql.containsKey(sql))) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRows(long count) {
+        rows += count;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements one request to this handler may run.
+ * On a controller class it applies to every handler method that does not
+ * declare its own; handlers without one use sql-monitoring.default-budget.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SqlBudget {
+
+    int value();
+}
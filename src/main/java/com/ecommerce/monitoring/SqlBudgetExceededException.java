@@ -0,0 +1,12 @@
+package com.ecommerce.monitoring;
+
+/**
+ * Thrown when sql-monitoring.fail-on-exceed is set and a request ran more
+ * statements than its handler's budget.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
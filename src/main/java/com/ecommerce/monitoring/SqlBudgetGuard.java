@@ -0,0 +1,81 @@
+package com.ecommerce.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Fails requests over their {@link SqlBudget} when
+ * sql-monitoring.fail-on-exceed is set. The check runs once the handler
+ * has done its queries but before anything is written: ahead of the
+ * message converter for response bodies, and ahead of rendering for views.
+ * The exception then becomes a 500 from the exception handler; after the
+ * response commits it could only be logged. Streamed responses are written
+ * outside these hooks, so their budget is only reported by
+ * {@link SqlMonitoringFilter}.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlBudgetGuard implements ResponseBodyAdvice<Object>, HandlerInterceptor, WebMvcConfigurer {
+
+    // Set once checked, so the error body written for a failure is not checked again
+    private static final String CHECKED = SqlBudgetGuard.class.getName() + ".CHECKED";
+
+    private final SqlMonitoringProperties properties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null) {
+            check(request, handler);
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isEnabled() && properties.isFailOnExceed();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            check(httpRequest, httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+        }
+        return body;
+    }
+
+    private void check(HttpServletRequest request, Object handler) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (!properties.isEnabled() || !properties.isFailOnExceed() || stats == null
+                || request.getAttribute(CHECKED) != null) {
+            return;
+        }
+        request.setAttribute(CHECKED, Boolean.TRUE);
+        int budget = SqlMonitoringFilter.budget(handler, properties.getDefaultBudget());
+        if (stats.getStatements() > budget) {
+            throw new SqlBudgetExceededException(String.format("%s %s ran %d SQL statements, budget is %d",
+                    request.getMethod(), SqlMonitoringFilter.uriPattern(request), stats.getStatements(), budget));
+        }
+    }
+}
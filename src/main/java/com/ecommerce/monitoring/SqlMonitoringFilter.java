@@ -0,0 +1,183 @@
+package com.ecommerce.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts every SQL statement a request runs. Adds a Server-Timing header
+ * with the database time, records per-endpoint metrics, reports statements
+ * repeated often enough to look like an N+1, and reports requests over
+ * their handler's {@link SqlBudget}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+    private final SqlMonitoringProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            HttpServletResponse wrapped = properties.isServerTiming()
+                    ? new ServerTimingResponse(response, stats) : response;
+            filterChain.doFilter(request, wrapped);
+            if (wrapped instanceof ServerTimingResponse serverTiming) {
+                // Responses without a body never asked for a stream
+                serverTiming.addServerTiming();
+            }
+        } finally {
+            RequestSqlStats.end();
+        }
+
+        if (stats.getStatements() > 0) {
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestSqlStats stats) {
+        String uri = uriPattern(request);
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.sql.rows")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("http.server.sql.time")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        for (Map.Entry<String, Integer> entry : stats.getExecutionsBySql().entrySet()) {
+            if (entry.getValue() >= properties.getRepeatedStatementThreshold()) {
+                Counter.builder("http.server.sql.repeated").tag("uri", uri).register(meterRegistry).increment();
+                log.warn("Possible N+1 on {} {}: same statement ran {} times: {}",
+                        request.getMethod(), uri, entry.getValue(), entry.getKey());
+            }
+        }
+
+        // The response is committed by now; SqlBudgetGuard fails the request earlier when asked to
+        int budget = budget(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE),
+                properties.getDefaultBudget());
+        if (stats.getStatements() > budget) {
+            Counter.builder("http.server.sql.budget.exceeded").tag("uri", uri).register(meterRegistry).increment();
+            log.warn("{} {} ran {} SQL statements, budget is {}",
+                    request.getMethod(), uri, stats.getStatements(), budget);
+        }
+    }
+
+    static int budget(Object handler, int defaultBudget) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), SqlBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+            }
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+
+    static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    /**
+     * Sets Server-Timing just before the response is committed. With
+     * open-in-view off, a handler's queries have all run by then.
+     */
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestSqlStats stats;
+        private boolean headerSet;
+
+        ServerTimingResponse(HttpServletResponse response, RequestSqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void addServerTiming() {
+            if (headerSet || isCommitted()) {
+                return;
+            }
+            headerSet = true;
+            addHeader("Server-Timing", String.format(Locale.ROOT,
+                    "db;dur=%.1f;desc=\"%d statements, %d rows\"",
+                    stats.getNanos() / 1_000_000.0, stats.getStatements(), stats.getRows()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-request SQL accounting, bound from sql-monitoring.*.
+ */
+@Component
+@ConfigurationProperties(prefix = "sql-monitoring")
+@Data
+public class SqlMonitoringProperties {
+
+    private boolean enabled = true;
+
+    // Statement budget for handlers without an @SqlBudget
+    private int defaultBudget = 50;
+
+    // The same SQL this many times in one request is reported as a likely N+1
+    private int repeatedStatementThreshold = 10;
+
+    // Throw instead of logging when a budget is exceeded (test profile)
+    private boolean failOnExceed = false;
+
+    // Add a Server-Timing header with the request's database time
+    private boolean serverTiming = true;
+}
@@ -0,0 +1,141 @@
+package com.ecommerce.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps connections so every statement executed during an HTTP request is
+ * counted, timed and its rows tallied in {@link RequestSqlStats}. Outside a
+ * request the wrappers only delegate.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource implements Closeable {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrapStatement(Statement.class, (Statement) result, null);
+                case "prepareStatement" -> wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> wrapStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+                default -> result;
+            };
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return name.equals("getResultSet") && result != null ? wrapResultSet((ResultSet) result) : result;
+            }
+
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats == null) {
+                return invoke(statement, method, args);
+            }
+
+            String sql = preparedSql != null ? preparedSql
+                    : (args != null && args.length > 0 && args[0] instanceof String s ? s : null);
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invoke(statement, method, args);
+            } finally {
+                stats.recordExecution(sql, System.nanoTime() - start);
+            }
+
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            if (result instanceof Integer count && name.startsWith("executeUpdate")) {
+                stats.recordRows(count);
+            } else if (result instanceof Long count && name.startsWith("executeLargeUpdate")) {
+                stats.recordRows(count);
+            } else if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    stats.recordRows(Math.max(count, 0));
+                }
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null) {
+            return resultSet;
+        }
+        return proxy(ResultSet.class, resultSet, (method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                stats.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "unwrap", "isWrapperFor":
+                            // Must see the real driver objects
+                            return invoke(target, method, args);
+                        default:
+                            return handler.handle(method, args);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
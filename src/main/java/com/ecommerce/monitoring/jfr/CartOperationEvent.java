@@ -0,0 +1,25 @@
+package com.ecommerce.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ecommerce.CartOperation")
+@Label("Cart Operation")
+@Category({"E-Commerce", "Cart"})
+@StackTrace(false)
+public class CartOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Items")
+    public int itemCount;
+
+    @Label("Failed")
+    public boolean failed;
+}
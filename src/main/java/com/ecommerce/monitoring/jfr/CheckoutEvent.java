@@ -0,0 +1,27 @@
+package com.ecommerce.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One completed checkout, from cart load to warranty creation.
+ */
+@Name("com.ecommerce.Checkout")
+@Label("Checkout")
+@Description("An order placed from the user's cart")
+@Category({"E-Commerce", "Checkout"})
+@StackTrace(false)
+public class CheckoutEvent extends jdk.jfr.Event {
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Items")
+    public int itemCount;
+}
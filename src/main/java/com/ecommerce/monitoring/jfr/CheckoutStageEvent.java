@@ -0,0 +1,30 @@
+package com.ecommerce.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of a checkout; the order ID is 0 until the order is saved.
+ */
+@Name("com.ecommerce.CheckoutStage")
+@Label("Checkout Stage")
+@Description("Cart load, stock, discount, save or warranties stage of a checkout")
+@Category({"E-Commerce", "Checkout"})
+@StackTrace(false)
+public class CheckoutStageEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Items")
+    public int itemCount;
+}
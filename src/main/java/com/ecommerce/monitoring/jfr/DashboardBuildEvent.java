@@ -0,0 +1,20 @@
+package com.ecommerce.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ecommerce.DashboardBuild")
+@Label("Dashboard Build")
+@Category({"E-Commerce", "Dashboard"})
+@StackTrace(false)
+public class DashboardBuildEvent extends jdk.jfr.Event {
+
+    @Label("Dashboard")
+    public String dashboard;
+
+    // Customer whose dashboard was built, 0 for the overview dashboards
+    @Label("Customer ID")
+    public long customerId;
+}
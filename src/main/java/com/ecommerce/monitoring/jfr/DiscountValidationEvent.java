@@ -0,0 +1,22 @@
+package com.ecommerce.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ecommerce.DiscountValidation")
+@Label("Discount Validation")
+@Category({"E-Commerce", "Checkout"})
+@StackTrace(false)
+public class DiscountValidationEvent extends jdk.jfr.Event {
+
+    @Label("Code")
+    public String code;
+
+    @Label("Order Total")
+    public double orderTotal;
+
+    @Label("Valid")
+    public boolean valid;
+}
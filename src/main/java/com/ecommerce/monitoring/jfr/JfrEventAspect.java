@@ -0,0 +1,80 @@
+package com.ecommerce.monitoring.jfr;
+
+import com.ecommerce.dto.CartItemDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Emits flight recorder events around cart operations and dashboard
+ * builders. When the events are disabled the cost is one isEnabled check.
+ */
+@Aspect
+@Component
+public class JfrEventAspect {
+
+    @Around("execution(public * com.ecommerce.service.CartService.*(..))")
+    public Object cartOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        CartOperationEvent event = new CartOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.userId = firstLongArg(joinPoint);
+                event.itemCount = itemCount(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * com.ecommerce.service.DashboardService.getDashboardData(..))"
+            + " || execution(public * com.ecommerce.service.CustomerDashboardService.getDashboardAnalytics(..))"
+            + " || execution(public * com.ecommerce.service.CustomerDashboardService.getCustomerDashboard(..))")
+    public Object dashboardBuild(ProceedingJoinPoint joinPoint) throws Throwable {
+        DashboardBuildEvent event = new DashboardBuildEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (event.shouldCommit()) {
+                event.dashboard = joinPoint.getSignature().getName();
+                event.customerId = firstLongArg(joinPoint);
+                event.commit();
+            }
+        }
+    }
+
+    private static long firstLongArg(ProceedingJoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        return args.length > 0 && args[0] instanceof Long id ? id : 0;
+    }
+
+    // Lines returned, or the count itself for getCartItemCount
+    private static int itemCount(Object result) {
+        if (result instanceof Collection<?> items) {
+            return items.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return result instanceof CartItemDto ? 1 : 0;
+    }
+}
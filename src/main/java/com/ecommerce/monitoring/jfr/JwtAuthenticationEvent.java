@@ -0,0 +1,25 @@
+package com.ecommerce.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Resolving the principal for a bearer token, before the rest of the chain.
+ */
+@Name("com.ecommerce.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"E-Commerce", "Security"})
+@StackTrace(false)
+public class JwtAuthenticationEvent extends jdk.jfr.Event {
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Principal Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Authenticated")
+    public boolean authenticated;
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.monitoring.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Virtual thread pinning diagnostics, bound from virtual-threads.pinning.*.
+ * Only active when spring.threads.virtual.enabled is set on Java 21+.
+ */
+@Component
+@ConfigurationProperties(prefix = "virtual-threads.pinning")
+@Data
+public class PinningMonitorProperties {
+
+    private boolean enabled = true;
+
+    // Pins shorter than this are not reported; the JDK default is 20 ms
+    private long thresholdMs = 20;
+
+    // Frames kept for the sample stack of each pinning source
+    private int stackDepth = 16;
+
+    // Distinct sources tracked; later ones are counted under "other"
+    private int maxSources = 100;
+}
@@ -0,0 +1,192 @@
+package com.ecommerce.monitoring.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports virtual threads pinned to their carrier. A virtual thread that
+ * blocks while holding a monitor (a synchronized block in the JDBC driver,
+ * the connection pool or Hibernate) keeps its carrier parked too, which
+ * quietly caps throughput at the carrier count. When requests run on
+ * virtual threads this streams the JDK's jdk.VirtualThreadPinned event,
+ * groups events by the first frame outside the JDK and logs each new
+ * source once with its stack.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // First match from the top of the stack decides the layer
+    private static final Map<String, String> LAYERS = new LinkedHashMap<>();
+
+    static {
+        LAYERS.put("org.h2.", "jdbc");
+        LAYERS.put("org.postgresql.", "jdbc");
+        LAYERS.put("com.zaxxer.hikari.", "pool");
+        LAYERS.put("org.hibernate.", "hibernate");
+        LAYERS.put("com.ecommerce.", "application");
+        LAYERS.put("org.springframework.", "spring");
+    }
+
+    private final PinningMonitorProperties properties;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, PinnedSource> sources = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                log.warn("spring.threads.virtual.enabled is set, but Java {} has no virtual threads;"
+                        + " requests keep running on the platform thread pool", Runtime.version().feature());
+            }
+            return;
+        }
+        log.info("Requests, @Scheduled jobs and async tasks run on virtual threads");
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(properties.getThresholdMs()))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for {} ms or longer", properties.getThresholdMs());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public Map<String, Object> getReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("javaVersion", Runtime.version().feature());
+        report.put("virtualThreads", Threading.VIRTUAL.isActive(environment));
+        report.put("monitoring", stream != null);
+        report.put("thresholdMs", properties.getThresholdMs());
+        report.put("events", events.sum());
+        report.put("sources", sources.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, PinnedSource> e) -> e.getValue().totalNanos.sum())
+                        .reversed())
+                .map(e -> e.getValue().toReport(e.getKey()))
+                .toList());
+        return report;
+    }
+
+    // Runs on the stream's own thread
+    private void record(RecordedEvent event) {
+        events.increment();
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+
+        String source = "unknown";
+        String layer = "other";
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (source.equals("unknown") && frame.isJavaFrame() && !isJdk(type)) {
+                source = type + "." + frame.getMethod().getName();
+            }
+            String match = layerOf(type);
+            if (match != null) {
+                layer = match;
+                break;
+            }
+        }
+        if (!sources.containsKey(source) && sources.size() >= properties.getMaxSources()) {
+            source = "other";
+        }
+
+        Duration duration = event.getDuration();
+        String pinnedLayer = layer;
+        PinnedSource pinned = sources.computeIfAbsent(source, key -> {
+            List<String> stack = frames.stream()
+                    .limit(properties.getStackDepth())
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .toList();
+            log.warn("Virtual thread {} pinned for {} ms in {} ({}):\n  at {}",
+                    event.getThread() != null ? event.getThread().getJavaName() : "?",
+                    duration.toMillis(), key, pinnedLayer, String.join("\n  at ", stack));
+            return new PinnedSource(pinnedLayer, stack);
+        });
+        pinned.record(duration);
+
+        Timer.builder("virtual.threads.pinned")
+                .tag("layer", layer)
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    private static boolean isJdk(String type) {
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private static String layerOf(String type) {
+        for (Map.Entry<String, String> layer : LAYERS.entrySet()) {
+            if (type.startsWith(layer.getKey())) {
+                return layer.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static class PinnedSource {
+
+        private final String layer;
+        private final List<String> stack;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        PinnedSource(String layer, List<String> stack) {
+            this.layer = layer;
+            this.stack = stack;
+        }
+
+        void record(Duration duration) {
+            count.increment();
+            totalNanos.add(duration.toNanos());
+            maxNanos.accumulate(duration.toNanos());
+        }
+
+        Map<String, Object> toReport(String source) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("source", source);
+            report.put("layer", layer);
+            report.put("count", count.sum());
+            report.put("totalMs", totalNanos.sum() / 1_000_000.0);
+            report.put("maxMs", maxNanos.get() / 1_000_000.0);
+            report.put("stack", stack);
+            return report;
+        }
+    }
+}
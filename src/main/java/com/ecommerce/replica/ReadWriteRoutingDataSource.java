@@ -0,0 +1,113 @@
+package com.ecommerce.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica, round robin, and
+ * everything else to the primary. Must sit behind a
+ * LazyConnectionDataSourceProxy so the choice is made once the transaction's
+ * read-only flag is known, not when Hibernate begins the transaction.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final boolean fallbackToPrimary;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+
+    public ReadWriteRoutingDataSource(String workload,
+                                      DataSource primary,
+                                      List<Replica> replicas,
+                                      ReadYourWritesTracker readYourWrites,
+                                      boolean fallbackToPrimary,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.fallbackToPrimary = fallbackToPrimary;
+        this.writes = counter(meterRegistry, workload, "primary");
+        this.replicaReads = counter(meterRegistry, workload, "replica");
+        this.pinnedReads = counter(meterRegistry, workload, "primary_read_your_writes");
+        this.fallbackReads = counter(meterRegistry, workload, "primary_fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    private DataSource determineTarget() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.markWrite();
+                    }
+                });
+            }
+            return primary;
+        }
+
+        if (readYourWrites.isPinnedToPrimary()) {
+            pinnedReads.increment();
+            return primary;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.node.isHealthy()) {
+                replicaReads.increment();
+                return replica.dataSource;
+            }
+        }
+
+        if (!fallbackToPrimary) {
+            throw new SQLException("No read replica is available");
+        }
+        fallbackReads.increment();
+        return primary;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String workload, String target) {
+        return Counter.builder("datasource.routing")
+                .tag("workload", workload)
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A workload's own pool to one replica node.
+     */
+    @AllArgsConstructor
+    public static class Replica {
+
+        private final ReplicaNode node;
+        private final DataSource dataSource;
+    }
+}
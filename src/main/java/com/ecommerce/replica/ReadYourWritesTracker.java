@@ -0,0 +1,67 @@
+package com.ecommerce.replica;
+
+import com.ecommerce.security.CustomUserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which users committed a write recently so their reads are kept
+ * on the primary until the replicas have had time to catch up; e.g. the
+ * order confirmation page right after checkout.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final int maxTrackedUsers;
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(ReplicaProperties properties) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getReadYourWritesMs());
+        this.maxTrackedUsers = properties.getMaxTrackedUsers();
+    }
+
+    /**
+     * Keeps the current user's reads on the primary for the configured window.
+     */
+    public void markWrite() {
+        Long userId = currentUserId();
+        if (userId == null || windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (pinnedUntil.size() >= maxTrackedUsers) {
+            pinnedUntil.values().removeIf(until -> until - now <= 0);
+        }
+        pinnedUntil.put(userId, now + windowNanos);
+    }
+
+    public boolean isPinnedToPrimary() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() <= 0) {
+            pinnedUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Periodically measures replication lag on every replica. A replica that
+ * lags more than read-replicas.max-lag-ms, or cannot be queried, is taken
+ * out of read rotation until it catches up.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<ReplicaNode> nodes = new CopyOnWriteArrayList<>();
+
+    public void register(ReplicaNode node) {
+        nodes.add(node);
+        Gauge.builder("replica.lag", node, ReplicaNode::getLagMs)
+                .tag("replica", node.getName())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("replica.healthy", node, n -> n.isHealthy() ? 1 : 0)
+                .tag("replica", node.getName())
+                .register(meterRegistry);
+        check(node);
+    }
+
+    @Scheduled(fixedDelayString = "${read-replicas.lag-check-interval-ms:2000}")
+    public void checkAll() {
+        for (ReplicaNode node : nodes) {
+            check(node);
+        }
+    }
+
+    private void check(ReplicaNode node) {
+        boolean wasHealthy = node.isHealthy();
+        try (Connection connection = node.getCheckDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+            long lagMs = rs.next() ? rs.getLong(1) : 0;
+            node.update(lagMs <= properties.getMaxLagMs(), lagMs);
+        } catch (SQLException e) {
+            node.update(false, -1);
+            if (wasHealthy) {
+                log.warn("Replica {} lag check failed: {}", node.getName(), e.getMessage());
+            }
+        }
+
+        if (wasHealthy != node.isHealthy()) {
+            log.info("Replica {} is now {} (lag {} ms)", node.getName(),
+                    node.isHealthy() ? "in rotation" : "out of rotation", node.getLagMs());
+        }
+    }
+}
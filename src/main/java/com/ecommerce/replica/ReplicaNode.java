@@ -0,0 +1,31 @@
+package com.ecommerce.replica;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * Health of one replica as last measured by {@link ReplicaLagMonitor}.
+ * Shared by every workload's routing data source that reads from it.
+ */
+@Getter
+public class ReplicaNode {
+
+    private final String name;
+
+    // Pool used for lag checks
+    private final DataSource checkDataSource;
+
+    private volatile boolean healthy;
+    private volatile long lagMs = -1;
+
+    public ReplicaNode(String name, DataSource checkDataSource) {
+        this.name = name;
+        this.checkDataSource = checkDataSource;
+    }
+
+    void update(boolean healthy, long lagMs) {
+        this.healthy = healthy;
+        this.lagMs = lagMs;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.replica;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica nodes and routing tolerances, bound from read-replicas.*.
+ * With no nodes configured every transaction uses the primary.
+ */
+@Component
+@ConfigurationProperties(prefix = "read-replicas")
+@Data
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    // Replicas lagging further behind than this stop receiving reads
+    private long maxLagMs = 1000;
+
+    // How often each replica's lag is measured
+    private long lagCheckIntervalMs = 2000;
+
+    // Query returning the replica's replay lag in milliseconds
+    private String lagQuery = "SELECT CASE WHEN pg_is_in_recovery() "
+            + "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) "
+            + "ELSE 0 END";
+
+    // After a user commits a write, their reads stay on the primary this long
+    private long readYourWritesMs = 5000;
+
+    // Upper bound on users tracked for read-your-writes
+    private int maxTrackedUsers = 100_000;
+
+    // Serve reads from the primary when no replica is healthy, instead of failing
+    private boolean fallbackToPrimary = true;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Data
+    public static class Node {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,292 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.search.SearchEntityType;
+import com.ecommerce.search.SearchKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The admin search index: trigram lookups over search_documents and
+ * search_grams, and the source queries that build a document for each
+ * indexed customer, order, warranty, inventory item and discount.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdminSearchJdbcRepository {
+
+    private static final int MAX_TEXT_LENGTH = 1000;
+
+    private static final String INSERT_DOCUMENT = "INSERT INTO search_documents "
+            + "(doc_id, entity_type, entity_id, title, subtitle, text, source_updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GRAM = "INSERT INTO search_grams (gram, doc_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Documents holding every gram whose text also matches the LIKE
+     * pattern, newest id first. Each gram is a range of the (gram, doc_id)
+     * primary key, so the joins merge and stop at the limit.
+     */
+    public List<Document> findByGrams(List<String> grams, String textPattern,
+                                      Collection<SearchEntityType> types, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT d.doc_id, d.entity_type, d.entity_id, d.title, d.subtitle, d.text, d.source_updated_at"
+                        + " FROM search_grams g0");
+        for (int i = 1; i < grams.size(); i++) {
+            sql.append(" JOIN search_grams g").append(i)
+                    .append(" ON g").append(i).append(".doc_id = g0.doc_id AND g").append(i).append(".gram = ?");
+        }
+        sql.append(" JOIN search_documents d ON d.doc_id = g0.doc_id WHERE g0.gram = ? AND d.text LIKE ?");
+        if (types.size() < SearchEntityType.values().length) {
+            sql.append(" AND d.entity_type IN (")
+                    .append(String.join(", ", Collections.nCopies(types.size(), "?"))).append(")");
+        }
+        sql.append(" ORDER BY g0.doc_id DESC LIMIT ").append(limit);
+
+        List<Object> args = new ArrayList<>(grams.subList(1, grams.size()));
+        args.add(grams.get(0));
+        args.add(textPattern);
+        if (types.size() < SearchEntityType.values().length) {
+            types.forEach(type -> args.add(type.name()));
+        }
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new Document(rs.getLong("doc_id"),
+                SearchEntityType.valueOf(rs.getString("entity_type")), rs.getLong("entity_id"),
+                rs.getString("title"), rs.getString("subtitle"), rs.getString("text"),
+                rs.getObject("source_updated_at", LocalDateTime.class)), args.toArray());
+    }
+
+    /**
+     * How many documents hold each gram, counting at most cap per gram, so
+     * a gram shared by every order costs no more than a rare one.
+     */
+    public Map<String, Integer> countGrams(Collection<String> grams, int cap) {
+        String sql = grams.stream()
+                .map(gram -> "SELECT CAST(? AS VARCHAR(3)) AS gram, COUNT(*) AS hits"
+                        + " FROM (SELECT 1 FROM search_grams WHERE gram = ? LIMIT " + cap + ") t")
+                .collect(Collectors.joining(" UNION ALL "));
+        List<Object> args = new ArrayList<>(grams.size() * 2);
+        for (String gram : grams) {
+            args.add(gram);
+            args.add(gram);
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getString("gram"), rs.getInt("hits"));
+        }, args.toArray());
+        return counts;
+    }
+
+    /**
+     * Builds the current documents of the given entities from their source
+     * rows. Ids without a row (deleted, or not indexed like admin users)
+     * are left out.
+     */
+    public List<Document> loadDocuments(SearchEntityType type, Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+        Source source = source(type);
+        return jdbcTemplate.query(source.query("", source.getIdColumn() + " IN ("
+                + String.join(", ", Collections.nCopies(entityIds.size(), "?")) + ")"),
+                source.getMapper(), entityIds.toArray());
+    }
+
+    /**
+     * Documents for source rows that have none yet (inserted by SQL or
+     * before the index existed) or whose updated_at is newer than the one
+     * their document was built from (a change still queued when the app
+     * stopped), lowest id first.
+     */
+    public List<Document> loadStaleDocuments(SearchEntityType type, long afterId, int limit) {
+        Source source = source(type);
+        String updatedAt = source.getUpdatedAtColumn();
+        String sql = source.query(" LEFT JOIN search_documents sd ON sd.doc_id = "
+                        + type.documentIdSql(source.getIdColumn()),
+                "(sd.doc_id IS NULL OR " + updatedAt + " > sd.source_updated_at"
+                        + " OR (sd.source_updated_at IS NULL AND " + updatedAt + " IS NOT NULL))"
+                        + " AND " + source.getIdColumn() + " > ?")
+                + " ORDER BY " + source.getIdColumn() + " LIMIT " + limit;
+        return jdbcTemplate.query(sql, source.getMapper(), afterId);
+    }
+
+    /**
+     * Ids of documents whose source row is gone or no longer indexed, such
+     * as a delete still queued when the app stopped.
+     */
+    public List<Long> findOrphanedDocumentIds(SearchEntityType type, int limit) {
+        Source source = source(type);
+        return jdbcTemplate.queryForList("SELECT sd.doc_id FROM search_documents sd WHERE sd.entity_type = ?"
+                + " AND NOT EXISTS (SELECT 1 FROM " + source.getFrom() + " WHERE "
+                + (source.getFilter() != null ? source.getFilter() + " AND " : "")
+                + source.getIdColumn() + " = sd.entity_id) LIMIT " + limit, Long.class, type.name());
+    }
+
+    /**
+     * Ids of orders with the given numbers, for changes made by SQL.
+     */
+    public List<Long> findOrderIdsByNumber(Collection<String> orderNumbers) {
+        if (orderNumbers.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM orders WHERE order_number IN ("
+                + String.join(", ", Collections.nCopies(orderNumbers.size(), "?")) + ")",
+                Long.class, orderNumbers.toArray());
+    }
+
+    /**
+     * Removes the given documents with their grams and writes the new
+     * versions of those that still exist, in one transaction.
+     */
+    @Transactional
+    public void replace(Collection<Long> docIds, List<Document> documents) {
+        if (!docIds.isEmpty()) {
+            String ids = docIds.stream().map(String::valueOf).collect(Collectors.joining(", "));
+            jdbcTemplate.update("DELETE FROM search_grams WHERE doc_id IN (" + ids + ")");
+            jdbcTemplate.update("DELETE FROM search_documents WHERE doc_id IN (" + ids + ")");
+        }
+        if (documents.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(documents.size());
+        List<Object[]> grams = new ArrayList<>();
+        for (Document document : documents) {
+            rows.add(new Object[]{document.getDocId(), document.getType().name(), document.getEntityId(),
+                    document.getTitle(), document.getSubtitle(), document.getText(), document.getSourceUpdatedAt()});
+            for (String gram : SearchKeys.nameGrams(document.getText())) {
+                grams.add(new Object[]{gram, document.getDocId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_DOCUMENT, rows);
+        jdbcTemplate.batchUpdate(INSERT_GRAM, grams);
+    }
+
+    // ============ Sources ============
+
+    private static final Source CUSTOMERS = new Source(
+            "u.id, u.updated_at, u.name, u.email, u.phone, u.address, u.city", "users u", "u.role = 'CUSTOMER'",
+            "u.id", "u.updated_at",
+            (rs, rowNum) -> document(SearchEntityType.CUSTOMER, rs, rs.getString("name"),
+                    rs.getString("email"),
+                    String.format("cust%06d", rs.getLong("id")),
+                    SearchKeys.nameKey(rs.getString("name")),
+                    SearchKeys.compactKey(rs.getString("email")),
+                    SearchKeys.phoneKey(rs.getString("phone")),
+                    SearchKeys.nameKey(rs.getString("address")),
+                    SearchKeys.nameKey(rs.getString("city"))));
+
+    private static final Source ORDERS = new Source(
+            "o.id, o.updated_at, o.order_number, o.tracking_number, o.status, u.email",
+            "orders o JOIN users u ON u.id = o.user_id", null, "o.id", "o.updated_at",
+            (rs, rowNum) -> document(SearchEntityType.ORDER, rs, rs.getString("order_number"),
+                    rs.getString("email") + " · " + rs.getString("status"),
+                    SearchKeys.compactKey(rs.getString("order_number")),
+                    SearchKeys.compactKey(rs.getString("tracking_number"))));
+
+    private static final Source WARRANTIES = new Source(
+            "w.id, w.updated_at, w.warranty_number, w.serial_number, p.name AS product_name",
+            "warranties w JOIN products p ON p.id = w.product_id", null, "w.id", "w.updated_at",
+            (rs, rowNum) -> document(SearchEntityType.WARRANTY, rs, rs.getString("warranty_number"),
+                    join(rs.getString("product_name"), rs.getString("serial_number")),
+                    SearchKeys.compactKey(rs.getString("warranty_number")),
+                    SearchKeys.compactKey(rs.getString("serial_number"))));
+
+    private static final Source INVENTORY_ITEMS = new Source(
+            "i.id, i.updated_at, i.item_id, i.serial_number, i.name, i.customer_name, i.customer_phone,"
+                    + " i.customer_email, i.address, i.city",
+            "inventory_items i", null, "i.id", "i.updated_at",
+            (rs, rowNum) -> document(SearchEntityType.INVENTORY_ITEM, rs,
+                    join(rs.getString("item_id"), rs.getString("name")),
+                    join(rs.getString("customer_name"), rs.getString("city")),
+                    SearchKeys.compactKey(rs.getString("item_id")),
+                    SearchKeys.compactKey(rs.getString("serial_number")),
+                    SearchKeys.nameKey(rs.getString("name")),
+                    SearchKeys.nameKey(rs.getString("customer_name")),
+                    SearchKeys.phoneKey(rs.getString("customer_phone")),
+                    SearchKeys.compactKey(rs.getString("customer_email")),
+                    SearchKeys.nameKey(rs.getString("address")),
+                    SearchKeys.nameKey(rs.getString("city"))));
+
+    private static final Source DISCOUNTS = new Source(
+            "d.id, d.updated_at, d.code, d.name", "discounts d", null, "d.id", "d.updated_at",
+            (rs, rowNum) -> document(SearchEntityType.DISCOUNT, rs, rs.getString("code"),
+                    rs.getString("name"),
+                    SearchKeys.compactKey(rs.getString("code")),
+                    SearchKeys.nameKey(rs.getString("name"))));
+
+    private static Source source(SearchEntityType type) {
+        return switch (type) {
+            case CUSTOMER -> CUSTOMERS;
+            case ORDER -> ORDERS;
+            case WARRANTY -> WARRANTIES;
+            case INVENTORY_ITEM -> INVENTORY_ITEMS;
+            case DISCOUNT -> DISCOUNTS;
+        };
+    }
+
+    // The document of the current row: its id and updated_at, display fields and search keys
+    private static Document document(SearchEntityType type, ResultSet rs, String title, String subtitle,
+                                     String... keys) throws SQLException {
+        long entityId = rs.getLong("id");
+        StringBuilder text = new StringBuilder();
+        for (String key : keys) {
+            if (key == null || key.isEmpty() || text.length() + key.length() + 1 > MAX_TEXT_LENGTH) {
+                continue;
+            }
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(key);
+        }
+        return new Document(type.documentId(entityId), type, entityId, title != null ? title : "#" + entityId,
+                subtitle, text.toString(), rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    private static String join(String first, String second) {
+        if (first == null || first.isBlank()) {
+            return second;
+        }
+        return second == null || second.isBlank() ? first : first + " · " + second;
+    }
+
+    @Value
+    private static class Source {
+        String columns;
+        String from;
+        String filter;
+        String idColumn;
+        String updatedAtColumn;
+        RowMapper<Document> mapper;
+
+        String query(String joins, String condition) {
+            return "SELECT " + columns + " FROM " + from + joins + " WHERE "
+                    + (filter != null ? filter + " AND " : "") + condition;
+        }
+    }
+
+    @Value
+    public static class Document {
+        long docId;
+        SearchEntityType type;
+        long entityId;
+        String title;
+        String subtitle;
+        String text;
+        // The source row's updated_at when the document was built
+        LocalDateTime sourceUpdatedAt;
+    }
+}
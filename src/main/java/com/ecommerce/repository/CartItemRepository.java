@@ -2,6 +2,7 @@ package com.ecommerce.repository;
 
 import com.ecommerce.entity.CartItem;
 import com.ecommerce.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +17,7 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     
     List<CartItem> findByUser(User user);
     
+    @EntityGraph("CartItem.product")
     List<CartItem> findByUserId(Long userId);
     
     Optional<CartItem> findByUserIdAndProductId(Long userId, Long productId);
@@ -1,8 +1,11 @@
 package com.ecommerce.repository;
 
 import com.ecommerce.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,6 +28,10 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByActiveTrue();
     
     // Find categories ordered by display order
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     @Query("SELECT c FROM Category c WHERE c.active = true ORDER BY c.displayOrder ASC, c.name ASC")
     List<Category> findAllActiveOrdered();
     
@@ -0,0 +1,108 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.search.SearchKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The customer name index: trigram lookups and batched writes of
+ * customer_name_grams and the normalized key columns of users.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerSearchJdbcRepository {
+
+    private static final String DELETE_GRAMS = "DELETE FROM customer_name_grams WHERE user_id = ?";
+    private static final String INSERT_GRAM = "INSERT INTO customer_name_grams (gram, user_id) VALUES (?, ?)";
+    private static final String UPDATE_KEYS =
+            "UPDATE users SET email_key = ?, phone_key = ?, name_key = ? WHERE id = ?";
+    private static final String SELECT_UNKEYED =
+            "SELECT id, name, email, phone FROM users WHERE email_key IS NULL AND id > ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Ids of customers holding every gram whose name key also matches the
+     * LIKE pattern, ascending after afterId. Each gram is a range of the
+     * (gram, user_id) primary key already sorted by user, so the joins
+     * merge and stop at the limit instead of counting every match.
+     */
+    public List<Long> findCustomerIdsByGrams(List<String> grams, String namePattern, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT g0.user_id FROM customer_name_grams g0");
+        for (int i = 1; i < grams.size(); i++) {
+            sql.append(" JOIN customer_name_grams g").append(i)
+                    .append(" ON g").append(i).append(".user_id = g0.user_id AND g").append(i).append(".gram = ?");
+        }
+        sql.append(" JOIN users u ON u.id = g0.user_id")
+                .append(" WHERE g0.gram = ? AND g0.user_id > ? AND u.role = 'CUSTOMER' AND u.name_key LIKE ?")
+                .append(" ORDER BY g0.user_id LIMIT ").append(limit);
+
+        List<Object> args = new ArrayList<>(grams.subList(1, grams.size()));
+        args.add(grams.get(0));
+        args.add(afterId);
+        args.add(namePattern);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    /**
+     * Replaces the indexed grams of one user.
+     */
+    public void replaceGrams(Long userId, Collection<String> grams) {
+        jdbcTemplate.update(DELETE_GRAMS, userId);
+        List<Object[]> rows = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            rows.add(new Object[]{gram, userId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_GRAM, rows);
+    }
+
+    /**
+     * Users saved without search keys (bulk-loaded or created before the
+     * keys existed), lowest id first.
+     */
+    public List<UnkeyedUser> findUnkeyedUsers(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_UNKEYED + " LIMIT " + limit,
+                (rs, rowNum) -> new UnkeyedUser(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("email"), rs.getString("phone")),
+                afterId);
+    }
+
+    /**
+     * Indexes a batch of users. The keys are written last, so a batch cut
+     * short is picked up again by {@link #findUnkeyedUsers}.
+     */
+    public void index(List<UnkeyedUser> users) {
+        List<Object[]> ids = new ArrayList<>(users.size());
+        List<Object[]> grams = new ArrayList<>();
+        List<Object[]> keys = new ArrayList<>(users.size());
+        for (UnkeyedUser user : users) {
+            String nameKey = SearchKeys.nameKey(user.getName());
+            ids.add(new Object[]{user.getId()});
+            for (String gram : SearchKeys.nameGrams(nameKey)) {
+                grams.add(new Object[]{gram, user.getId()});
+            }
+            keys.add(new Object[]{SearchKeys.emailKey(user.getEmail()),
+                    SearchKeys.phoneKey(user.getPhone()), nameKey, user.getId()});
+        }
+        jdbcTemplate.batchUpdate(DELETE_GRAMS, ids);
+        jdbcTemplate.batchUpdate(INSERT_GRAM, grams);
+        // Typed so a null phone key binds on Postgres
+        jdbcTemplate.batchUpdate(UPDATE_KEYS, keys,
+                new int[]{Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT});
+    }
+
+    @Value
+    public static class UnkeyedUser {
+        long id;
+        String name;
+        String email;
+        String phone;
+    }
+}
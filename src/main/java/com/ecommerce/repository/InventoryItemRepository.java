@@ -3,6 +3,7 @@ package com.ecommerce.repository;
 import com.ecommerce.entity.InventoryItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,9 +20,19 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     
     boolean existsByItemId(String itemId);
     
+    @Override
+    @EntityGraph("InventoryItem.category")
+    Optional<InventoryItem> findById(Long id);
+    
+    @Override
+    @EntityGraph("InventoryItem.category")
+    Page<InventoryItem> findAll(Pageable pageable);
+    
     // Find by category
+    @EntityGraph("InventoryItem.category")
     Page<InventoryItem> findByCategoryId(Long categoryId, Pageable pageable);
     
+    @EntityGraph("InventoryItem.category")
     List<InventoryItem> findByCategoryIdOrderByCreatedAtDesc(Long categoryId);
     
     // ============ PRODUCT WARRANTY QUERIES ============
@@ -31,6 +42,7 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     long countActiveProductWarranties(@Param("today") LocalDate today);
     
     // Find items with product warranty expiring soon
+    @EntityGraph("InventoryItem.category")
     @Query("SELECT i FROM InventoryItem i WHERE i.hasProductWarranty = true AND i.productWarrantyEndDate BETWEEN :today AND :endDate ORDER BY i.productWarrantyEndDate ASC")
     List<InventoryItem> findExpiringProductWarranties(@Param("today") LocalDate today, @Param("endDate") LocalDate endDate);
     
@@ -45,6 +57,7 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     long countActiveMotorWarranties(@Param("today") LocalDate today);
     
     // Find items with motor warranty expiring soon
+    @EntityGraph("InventoryItem.category")
     @Query("SELECT i FROM InventoryItem i WHERE i.hasMotorWarranty = true AND i.motorWarrantyEndDate BETWEEN :today AND :endDate ORDER BY i.motorWarrantyEndDate ASC")
     List<InventoryItem> findExpiringMotorWarranties(@Param("today") LocalDate today, @Param("endDate") LocalDate endDate);
     
@@ -55,6 +68,7 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     // ============ COMBINED WARRANTY QUERIES ============
     
     // Find items with any warranty expiring soon
+    @EntityGraph("InventoryItem.category")
     @Query("SELECT i FROM InventoryItem i WHERE " +
            "(i.hasProductWarranty = true AND i.productWarrantyEndDate BETWEEN :today AND :endDate) OR " +
            "(i.hasMotorWarranty = true AND i.motorWarrantyEndDate BETWEEN :today AND :endDate) " +
@@ -62,6 +76,7 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     List<InventoryItem> findItemsWithAnyExpiringWarranty(@Param("today") LocalDate today, @Param("endDate") LocalDate endDate);
     
     // Search items
+    @EntityGraph("InventoryItem.category")
     @Query("SELECT i FROM InventoryItem i WHERE " +
            "LOWER(i.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(i.itemId) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -73,6 +88,10 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     // Count by category
     long countByCategoryId(Long categoryId);
     
+    // Item count per category ID in one query
+    @Query("SELECT i.category.id, COUNT(i) FROM InventoryItem i GROUP BY i.category.id")
+    List<Object[]> countItemsPerCategory();
+    
     // Count with product warranty
     long countByHasProductWarrantyTrue();
     
@@ -80,6 +99,7 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     long countByHasMotorWarrantyTrue();
     
     // Recent items
+    @EntityGraph("InventoryItem.category")
     @Query("SELECT i FROM InventoryItem i ORDER BY i.createdAt DESC")
     List<InventoryItem> findRecentItems(Pageable pageable);
     
@@ -1,32 +1,73 @@
 package com.ecommerce.repository;
 
+import com.ecommerce.dto.CustomerOrderStats;
+import com.ecommerce.dto.OrderExportRow;
 import com.ecommerce.entity.Order;
 import com.ecommerce.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     
+    @EntityGraph("Order.detail")
     Optional<Order> findByOrderNumber(String orderNumber);
     
+    @EntityGraph("Order.detail")
+    Optional<Order> findDetailedById(Long id);
+    
+    @Override
+    @EntityGraph("Order.summary")
+    Page<Order> findAll(Pageable pageable);
+    
     // Find orders by user
     Page<Order> findByUser(User user, Pageable pageable);
     
+    @EntityGraph("Order.summary")
     Page<Order> findByUserId(Long userId, Pageable pageable);
     
-    List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // Customer 360 summary: order count, paid total and last purchase in one aggregate
+    @Query("SELECT new com.ecommerce.dto.CustomerOrderStats(COUNT(o), " +
+           "SUM(CASE WHEN o.paymentStatus = 'PAID' THEN o.totalAmount ELSE NULL END), MAX(o.createdAt)) " +
+           "FROM Order o WHERE o.user.id = :userId")
+    CustomerOrderStats getCustomerOrderStats(@Param("userId") Long userId);
+    
+    // Keyset pages of a customer's order IDs, newest first; the orders and
+    // their items are then loaded with findByIdIn
+    @Query("SELECT o.id FROM Order o WHERE o.user.id = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findHistoryIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT o.id FROM Order o WHERE o.user.id = :userId AND " +
+           "(o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findHistoryIdsByUserIdBefore(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+    
+    @EntityGraph("Order.detail")
+    List<Order> findByIdIn(Collection<Long> ids);
     
     // Find orders by status
+    @EntityGraph("Order.summary")
     Page<Order> findByStatus(Order.OrderStatus status, Pageable pageable);
     
     List<Order> findByStatus(Order.OrderStatus status);
@@ -63,10 +104,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     BigDecimal getTodaysSales(@Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay);
     
     // Find recent orders
+    @EntityGraph("Order.summary")
     @Query("SELECT o FROM Order o ORDER BY o.createdAt DESC")
     List<Order> findRecentOrders(Pageable pageable);
     
     // Search orders by order number or customer name
+    @EntityGraph("Order.summary")
     @Query("SELECT o FROM Order o WHERE " +
            "LOWER(o.orderNumber) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(o.user.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -86,5 +129,51 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query(value = "SELECT CAST(created_at AS DATE) as date, COUNT(*) as count FROM orders " +
            "WHERE created_at >= :startDate GROUP BY CAST(created_at AS DATE) ORDER BY date", nativeQuery = true)
     List<Object[]> getDailyOrdersCount(@Param("startDate") LocalDateTime startDate);
+    
+    @Query("SELECT o.id, o.status FROM Order o WHERE o.id IN :ids")
+    List<Object[]> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Lock the orders among the given ids that are still in one of the statuses,
+    // so concurrent cancellations cannot restore the same stock twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids AND o.status IN :statuses ORDER BY o.id")
+    List<Long> lockIdsByIdInAndStatusIn(@Param("ids") Collection<Long> ids,
+                                        @Param("statuses") Collection<Order.OrderStatus> statuses);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :now WHERE o.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") Order.OrderStatus status,
+                           @Param("now") LocalDateTime now);
+    
+    // Bulk export, one row per order line in order id order so a reader can
+    // group an order's lines without holding more than one order
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.ecommerce.dto.OrderExportRow(o.id, o.orderNumber, u.id, u.email, o.status, " +
+           "o.paymentStatus, o.paymentMethod, o.subtotal, o.discountAmount, o.taxAmount, o.shippingAmount, " +
+           "o.totalAmount, o.shippingCity, o.shippingState, o.shippingCountry, o.trackingNumber, o.carrier, " +
+           "o.createdAt, o.actualDelivery, i.id, i.product.id, i.productSku, i.productName, i.quantity, " +
+           "i.unitPrice, i.totalPrice) " +
+           "FROM Order o JOIN o.user u LEFT JOIN o.items i ORDER BY o.id, i.id")
+    Stream<OrderExportRow> streamOrderLinesForExport();
+    
+    // One customer's order lines, newest order first, for the customer CSV export
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.ecommerce.dto.OrderExportRow(o.id, o.orderNumber, u.id, u.email, o.status, " +
+           "o.paymentStatus, o.paymentMethod, o.subtotal, o.discountAmount, o.taxAmount, o.shippingAmount, " +
+           "o.totalAmount, o.shippingCity, o.shippingState, o.shippingCountry, o.trackingNumber, o.carrier, " +
+           "o.createdAt, o.actualDelivery, i.id, i.product.id, i.productSku, i.productName, i.quantity, " +
+           "i.unitPrice, i.totalPrice) " +
+           "FROM Order o JOIN o.user u LEFT JOIN o.items i WHERE u.id = :userId " +
+           "ORDER BY o.createdAt DESC, o.id DESC, i.id")
+    Stream<OrderExportRow> streamOrderLinesByUserId(@Param("userId") Long userId);
 }
 
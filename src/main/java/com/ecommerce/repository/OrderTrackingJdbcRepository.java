@@ -0,0 +1,115 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.entity.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Batched JDBC updates of order status and tracking details. Null values
+ * leave the existing column untouched. Cancelled and delivered orders are
+ * final and are never updated.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderTrackingJdbcRepository {
+
+    private static final String SET_CLAUSE = "UPDATE orders SET " +
+            "status = COALESCE(?, status), " +
+            "tracking_number = COALESCE(?, tracking_number), " +
+            "carrier = COALESCE(?, carrier), " +
+            "estimated_delivery = COALESCE(?, estimated_delivery), " +
+            "actual_delivery = COALESCE(?, actual_delivery), " +
+            "updated_at = ? ";
+
+    private static final String OPEN_ORDER = " AND status NOT IN ('CANCELLED', 'DELIVERED')";
+
+    private static final String UPDATE_BY_ID = SET_CLAUSE + "WHERE id = ?" + OPEN_ORDER;
+    private static final String UPDATE_BY_NUMBER = SET_CLAUSE + "WHERE order_number = ?" + OPEN_ORDER;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the affected row count per update, in input order.
+     */
+    public int[] updateById(List<TrackingUpdate> updates, LocalDateTime now) {
+        return batchUpdate(UPDATE_BY_ID, updates, now, true);
+    }
+
+    public int[] updateByOrderNumber(List<TrackingUpdate> updates, LocalDateTime now) {
+        return batchUpdate(UPDATE_BY_NUMBER, updates, now, false);
+    }
+
+    /**
+     * Which of the given orders exist, to tell rows the status guard
+     * skipped from rows naming no order.
+     */
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM orders WHERE id IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", Long.class, ids.toArray()));
+    }
+
+    public Set<String> findExistingOrderNumbers(Collection<String> orderNumbers) {
+        if (orderNumbers.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT order_number FROM orders WHERE order_number IN ("
+                + String.join(", ", Collections.nCopies(orderNumbers.size(), "?")) + ")",
+                String.class, orderNumbers.toArray()));
+    }
+
+    private int[] batchUpdate(String sql, List<TrackingUpdate> updates, LocalDateTime now, boolean byId) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp updatedAt = Timestamp.valueOf(now);
+
+        return jdbcTemplate.batchUpdate(sql, updates, updates.size(), (ps, update) -> {
+            setString(ps, 1, update.getStatus() != null ? update.getStatus().name() : null);
+            setString(ps, 2, update.getTrackingNumber());
+            setString(ps, 3, update.getCarrier());
+            setTimestamp(ps, 4, update.getEstimatedDelivery());
+            ps.setObject(5, update.getStatus() == Order.OrderStatus.DELIVERED ? updatedAt : null, Types.TIMESTAMP);
+            ps.setTimestamp(6, updatedAt);
+            if (byId) {
+                ps.setLong(7, update.getOrderId());
+            } else {
+                ps.setString(7, update.getOrderNumber());
+            }
+        })[0];
+    }
+
+    // Typed nulls keep COALESCE parameter types resolvable on Postgres
+    private static void setString(PreparedStatement ps, int index, String value) throws SQLException {
+        ps.setObject(index, value, Types.VARCHAR);
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        ps.setObject(index, value != null ? Timestamp.valueOf(value) : null, Types.TIMESTAMP);
+    }
+
+    @Value
+    public static class TrackingUpdate {
+        Long orderId;
+        String orderNumber;
+        Order.OrderStatus status;
+        String trackingNumber;
+        String carrier;
+        LocalDateTime estimatedDelivery;
+    }
+}
@@ -2,15 +2,21 @@ package com.ecommerce.repository;
 
 import com.ecommerce.entity.Category;
 import com.ecommerce.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,23 +32,29 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     // Find by category
     Page<Product> findByCategory(Category category, Pageable pageable);
     
+    @EntityGraph("Product.category")
     Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
     
     // Find by brand
+    @EntityGraph("Product.category")
     Page<Product> findByBrand(String brand, Pageable pageable);
     
     List<Product> findByBrand(String brand);
     
     // Find by color
+    @EntityGraph("Product.category")
     Page<Product> findByColor(String color, Pageable pageable);
     
     // Find active products
+    @EntityGraph("Product.category")
     Page<Product> findByActiveTrue(Pageable pageable);
     
     // Find featured products
+    @EntityGraph("Product.category")
     List<Product> findByFeaturedTrueAndActiveTrue();
     
     // Search products by name or description
+    @EntityGraph("Product.category")
     @Query("SELECT p FROM Product p WHERE p.active = true AND " +
            "(LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -50,32 +62,45 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     Page<Product> searchProducts(@Param("search") String search, Pageable pageable);
     
     // Find products by price range
+    @EntityGraph("Product.category")
     @Query("SELECT p FROM Product p WHERE p.active = true AND p.price BETWEEN :minPrice AND :maxPrice")
     Page<Product> findByPriceRange(@Param("minPrice") BigDecimal minPrice, 
                                     @Param("maxPrice") BigDecimal maxPrice, 
                                     Pageable pageable);
     
     // Find low stock products
+    @EntityGraph("Product.category")
     @Query("SELECT p FROM Product p WHERE p.stockQuantity <= :threshold AND p.active = true")
     List<Product> findLowStockProducts(@Param("threshold") int threshold);
     
     // Find out of stock products
+    @EntityGraph("Product.category")
     @Query("SELECT p FROM Product p WHERE p.stockQuantity = 0 AND p.active = true")
     List<Product> findOutOfStockProducts();
     
     // Get distinct brands
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     @Query("SELECT DISTINCT p.brand FROM Product p WHERE p.active = true ORDER BY p.brand")
     List<String> findAllBrands();
     
     // Get distinct colors
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     @Query("SELECT DISTINCT p.color FROM Product p WHERE p.active = true AND p.color IS NOT NULL ORDER BY p.color")
     List<String> findAllColors();
     
     // Find best selling products
+    @EntityGraph("Product.category")
     @Query("SELECT p FROM Product p WHERE p.active = true ORDER BY p.soldCount DESC")
     List<Product> findBestSellingProducts(Pageable pageable);
     
     // Find top rated products
+    @EntityGraph("Product.category")
     @Query("SELECT p FROM Product p WHERE p.active = true ORDER BY p.rating DESC")
     List<Product> findTopRatedProducts(Pageable pageable);
     
@@ -86,6 +111,7 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     long countByActiveTrue();
     
     // Complex filter query
+    @EntityGraph("Product.category")
     @Query("SELECT p FROM Product p WHERE p.active = true " +
            "AND (:brand IS NULL OR p.brand = :brand) " +
            "AND (:color IS NULL OR p.color = :color) " +
@@ -98,5 +124,17 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
                                  @Param("minPrice") BigDecimal minPrice,
                                  @Param("maxPrice") BigDecimal maxPrice,
                                  Pageable pageable);
+    
+    // Put back the stock of every line of the given orders in one statement;
+    // only the products table is declared as touched, so the rest of the
+    // second-level cache survives the native update
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "products"))
+    @Query(value = "UPDATE products p SET stock_quantity = p.stock_quantity + " +
+           "(SELECT SUM(oi.quantity) FROM order_items oi WHERE oi.product_id = p.id AND oi.order_id IN (:orderIds)), " +
+           "updated_at = CURRENT_TIMESTAMP " +
+           "WHERE p.id IN (SELECT oi.product_id FROM order_items oi WHERE oi.order_id IN (:orderIds))",
+           nativeQuery = true)
+    int restoreStockForOrders(@Param("orderIds") Collection<Long> orderIds);
 }
 
@@ -0,0 +1,74 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Stock changes made in the database rather than on a possibly cached
+ * Product, so concurrent checkouts on any node cannot oversell. Hibernate
+ * does not see these statements, so each one evicts just the changed
+ * product from the second-level cache once the transaction commits,
+ * instead of the whole products region a Hibernate bulk update would drop.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private static final String REDUCE_STOCK = "UPDATE products SET " +
+            "stock_quantity = stock_quantity - ?, " +
+            "sold_count = sold_count + ?, " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND stock_quantity >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Takes the quantity from the product's stock and adds it to its sold
+     * count. Returns the stock left, or null, changing nothing, when the
+     * product no longer has enough.
+     */
+    public StockLevel reduceStock(Long productId, int quantity) {
+        if (jdbcTemplate.update(REDUCE_STOCK, quantity, quantity, productId, quantity) == 0) {
+            return null;
+        }
+        evictAfterCommit(productId);
+
+        List<StockLevel> levels = jdbcTemplate.query(
+                "SELECT id, name, sku, stock_quantity FROM products WHERE id = ?",
+                (rs, rowNum) -> new StockLevel(rs.getLong("id"), rs.getString("name"), rs.getString("sku"),
+                        rs.getInt("stock_quantity")),
+                productId);
+        return levels.get(0);
+    }
+
+    private void evictAfterCommit(Long productId) {
+        Runnable evict = () -> entityManagerFactory.getCache().evict(Product.class, productId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    @Value
+    public static class StockLevel {
+        long productId;
+        String name;
+        String sku;
+        int stockQuantity;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.entity.SerialRegistration.RecordType;
+import com.ecommerce.search.SearchKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The serial number registry: lookups and writes of serial_registry for
+ * products, warranties and inventory items. Serials are stored as
+ * {@link SearchKeys#compactKey}, so "KW-CLR-2025-001" and "kw clr 2025001"
+ * are the same serial.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SerialRegistryJdbcRepository {
+
+    private static final String DELETE_RECORD =
+            "DELETE FROM serial_registry WHERE record_id = ? AND record_type = ?";
+    private static final String INSERT_RECORD =
+            "INSERT INTO serial_registry (serial_key, record_type, record_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records registered under a serial number, grouped by type with the
+     * newest first. One range of the primary key.
+     */
+    public List<RecordRef> findBySerialNumber(String serialNumber) {
+        return jdbcTemplate.query("SELECT record_type, record_id FROM serial_registry WHERE serial_key = ?"
+                        + " ORDER BY record_type, record_id DESC",
+                (rs, rowNum) -> new RecordRef(RecordType.valueOf(rs.getString("record_type")),
+                        rs.getLong("record_id")),
+                SearchKeys.compactKey(serialNumber));
+    }
+
+    /**
+     * Replaces the registered serial of one record; a blank serial only
+     * removes it.
+     */
+    public void register(RecordType type, long recordId, String serialNumber) {
+        unregister(type, recordId);
+        String serialKey = SearchKeys.compactKey(serialNumber);
+        if (!serialKey.isEmpty()) {
+            jdbcTemplate.update(INSERT_RECORD, serialKey, type.name(), recordId);
+        }
+    }
+
+    public void unregister(RecordType type, long recordId) {
+        jdbcTemplate.update(DELETE_RECORD, recordId, type.name());
+    }
+
+    /**
+     * Records with a serial number but no registry row (bulk-loaded or
+     * created before the registry existed), lowest id first.
+     */
+    public List<UnregisteredSerial> findUnregistered(RecordType type, long afterId, int limit) {
+        String table = switch (type) {
+            case PRODUCT -> "products";
+            case WARRANTY -> "warranties";
+            case INVENTORY_ITEM -> "inventory_items";
+        };
+        return jdbcTemplate.query("SELECT t.id, t.serial_number FROM " + table + " t"
+                        + " WHERE t.id > ? AND t.serial_number IS NOT NULL AND NOT EXISTS"
+                        + " (SELECT 1 FROM serial_registry r WHERE r.record_id = t.id AND r.record_type = ?)"
+                        + " ORDER BY t.id LIMIT " + limit,
+                (rs, rowNum) -> new UnregisteredSerial(rs.getLong("id"), rs.getString("serial_number")),
+                afterId, type.name());
+    }
+
+    /**
+     * Registers a batch of records that have no registry row yet.
+     */
+    public void registerAll(RecordType type, List<UnregisteredSerial> records) {
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (UnregisteredSerial record : records) {
+            String serialKey = SearchKeys.compactKey(record.getSerialNumber());
+            if (!serialKey.isEmpty()) {
+                rows.add(new Object[]{serialKey, type.name(), record.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_RECORD, rows);
+    }
+
+    @Value
+    public static class RecordRef {
+        RecordType type;
+        long id;
+    }
+
+    @Value
+    public static class UnregisteredSerial {
+        long id;
+        String serialNumber;
+    }
+}
@@ -1,16 +1,22 @@
 package com.ecommerce.repository;
 
+import com.ecommerce.dto.CustomerExportRow;
 import com.ecommerce.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -23,6 +29,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     Page<User> findByRole(User.Role role, Pageable pageable);
     
+    @Query("SELECT u.id FROM User u WHERE u.enabled = false")
+    List<Long> findIdsByEnabledFalse();
+    
     // Find top customers by lifetime spent
     @Query("SELECT u FROM User u WHERE u.role = 'CUSTOMER' ORDER BY u.lifetimeSpent DESC")
     List<User> findTopCustomersBySpending(Pageable pageable);
@@ -31,11 +40,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.role = 'CUSTOMER' ORDER BY u.totalOrders DESC")
     List<User> findTopCustomersByOrderCount(Pageable pageable);
     
-    // Search customers by name or email
-    @Query("SELECT u FROM User u WHERE u.role = 'CUSTOMER' AND " +
-           "(LOWER(u.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<User> searchCustomers(@Param("search") String search, Pageable pageable);
+    // Customer search by normalized email or phone, keyset-paged by id
+    @Query("SELECT u FROM User u WHERE u.emailKey = :emailKey AND u.role = 'CUSTOMER' AND u.id > :afterId " +
+           "ORDER BY u.id")
+    List<User> findCustomersByEmailKey(@Param("emailKey") String emailKey, @Param("afterId") long afterId,
+                                       Pageable pageable);
+    
+    @Query("SELECT u FROM User u WHERE u.phoneKey = :phoneKey AND u.role = 'CUSTOMER' AND u.id > :afterId " +
+           "ORDER BY u.id")
+    List<User> findCustomersByPhoneKey(@Param("phoneKey") String phoneKey, @Param("afterId") long afterId,
+                                       Pageable pageable);
+    
+    @Query("SELECT u FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<User> findByIdInOrderById(@Param("ids") Collection<Long> ids);
     
     // Count customers
     long countByRole(User.Role role);
@@ -44,9 +61,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.role = 'CUSTOMER' AND u.lifetimeSpent >= :amount")
     List<User> findCustomersWithMinimumSpending(@Param("amount") BigDecimal amount);
     
-    // Search by name or email (for dashboard search)
-    List<User> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
-    
     // Top customers by orders
     @Query("SELECT u FROM User u WHERE u.role = 'CUSTOMER' ORDER BY u.totalOrders DESC NULLS LAST")
     List<User> findTopCustomersByOrders(Pageable pageable);
@@ -54,5 +68,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Top customers by spend
     @Query("SELECT u FROM User u WHERE u.role = 'CUSTOMER' ORDER BY u.lifetimeSpent DESC NULLS LAST")
     List<User> findTopCustomersBySpend(Pageable pageable);
+    
+    // Bulk export; read through a server-side cursor, 1000 rows per round trip
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.ecommerce.dto.CustomerExportRow(u.id, u.name, u.email, u.phone, u.address, " +
+           "u.city, u.state, u.zipCode, u.country, u.totalOrders, u.lifetimeSpent, u.enabled, u.createdAt) " +
+           "FROM User u WHERE u.role = 'CUSTOMER' ORDER BY u.id")
+    Stream<CustomerExportRow> streamCustomersForExport();
 }
 
@@ -1,25 +1,45 @@
 package com.ecommerce.repository;
 
+import com.ecommerce.dto.WarrantyExportRow;
 import com.ecommerce.entity.Warranty;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WarrantyRepository extends JpaRepository<Warranty, Long> {
     
+    @EntityGraph("Warranty.details")
     Optional<Warranty> findByWarrantyNumber(String warrantyNumber);
     
-    Optional<Warranty> findBySerialNumber(String serialNumber);
+    @Override
+    @EntityGraph("Warranty.details")
+    Optional<Warranty> findById(Long id);
+    
+    @Override
+    @EntityGraph("Warranty.details")
+    Page<Warranty> findAll(Pageable pageable);
+    
+    @EntityGraph("Warranty.details")
+    List<Warranty> findByIdInOrderByIdDesc(Collection<Long> ids);
     
     // Find warranties by user
+    @EntityGraph("Warranty.details")
     Page<Warranty> findByUserId(Long userId, Pageable pageable);
     
     List<Warranty> findByUserId(Long userId);
@@ -28,12 +48,14 @@ public interface WarrantyRepository extends JpaRepository<Warranty, Long> {
     List<Warranty> findByProductId(Long productId);
     
     // Find warranties by status
+    @EntityGraph("Warranty.details")
     Page<Warranty> findByStatus(Warranty.WarrantyStatus status, Pageable pageable);
     
     // Find active warranties with end date >= today
     List<Warranty> findByStatusAndWarrantyEndDateGreaterThanEqual(Warranty.WarrantyStatus status, LocalDate today);
     
     // Find expiring warranties (within date range)
+    @EntityGraph("Warranty.details")
     List<Warranty> findByStatusAndWarrantyEndDateBetween(Warranty.WarrantyStatus status, LocalDate today, LocalDate endDate);
     
     // Find expired warranties that need status update (active but end date < today)
@@ -43,6 +65,7 @@ public interface WarrantyRepository extends JpaRepository<Warranty, Long> {
     long countByStatus(Warranty.WarrantyStatus status);
     
     // Search warranties
+    @EntityGraph("Warranty.details")
     @Query("SELECT w FROM Warranty w WHERE " +
            "LOWER(w.warrantyNumber) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(w.serialNumber) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -51,16 +74,63 @@ public interface WarrantyRepository extends JpaRepository<Warranty, Long> {
     Page<Warranty> searchWarranties(@Param("search") String search, Pageable pageable);
     
     // Find warranty by order
+    @EntityGraph("Warranty.details")
     List<Warranty> findByOrderId(Long orderId);
     
-    // Find warranties by user ordered by end date
-    List<Warranty> findByUserIdOrderByWarrantyEndDateAsc(Long userId);
+    long countByUserId(Long userId);
+    
+    // Keyset pages of a customer's warranties, soonest to expire first
+    @EntityGraph("Warranty.details")
+    @Query("SELECT w FROM Warranty w WHERE w.user.id = :userId ORDER BY w.warrantyEndDate, w.id")
+    List<Warranty> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @EntityGraph("Warranty.details")
+    @Query("SELECT w FROM Warranty w WHERE w.user.id = :userId AND " +
+           "(w.warrantyEndDate > :endDate OR (w.warrantyEndDate = :endDate AND w.id > :id)) " +
+           "ORDER BY w.warrantyEndDate, w.id")
+    List<Warranty> findPageByUserIdAfter(@Param("userId") Long userId,
+                                         @Param("endDate") LocalDate endDate,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
     
     // Count expiring warranties between dates
     @Query("SELECT COUNT(w) FROM Warranty w WHERE w.status = 'ACTIVE' AND w.warrantyEndDate BETWEEN :startDate AND :endDate")
     long countExpiringBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
     // Find expiring warranties between dates
+    @EntityGraph("Warranty.details")
     @Query("SELECT w FROM Warranty w WHERE w.status = 'ACTIVE' AND w.warrantyEndDate BETWEEN :startDate AND :endDate ORDER BY w.warrantyEndDate ASC")
     List<Warranty> findExpiringBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    // Set the status of all warranties issued for the given orders
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Warranty w SET w.status = :status, w.updatedAt = :now WHERE w.order.id IN :orderIds")
+    int updateStatusByOrderIds(@Param("orderIds") Collection<Long> orderIds,
+                               @Param("status") Warranty.WarrantyStatus status,
+                               @Param("now") LocalDateTime now);
+    
+    // Bulk export; read through a server-side cursor, 1000 rows per round trip
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.ecommerce.dto.WarrantyExportRow(w.id, w.warrantyNumber, w.serialNumber, p.id, " +
+           "p.sku, p.name, u.id, u.email, o.orderNumber, w.purchaseDate, w.warrantyStartDate, " +
+           "w.warrantyEndDate, w.status, w.claimFiled, w.claimCount) " +
+           "FROM Warranty w JOIN w.product p JOIN w.user u LEFT JOIN w.order o ORDER BY w.id")
+    Stream<WarrantyExportRow> streamWarrantiesForExport();
+    
+    // One customer's warranties, soonest to expire first, for the customer CSV export
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.ecommerce.dto.WarrantyExportRow(w.id, w.warrantyNumber, w.serialNumber, p.id, " +
+           "p.sku, p.name, u.id, u.email, o.orderNumber, w.purchaseDate, w.warrantyStartDate, " +
+           "w.warrantyEndDate, w.status, w.claimFiled, w.claimCount) " +
+           "FROM Warranty w JOIN w.product p JOIN w.user u LEFT JOIN w.order o WHERE u.id = :userId " +
+           "ORDER BY w.warrantyEndDate, w.id")
+    Stream<WarrantyExportRow> streamWarrantiesByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,95 @@
+package com.ecommerce.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queues entities written through JPA for the admin search index once their
+ * transaction has committed. Updates only count when a property the search
+ * document is built from changed, so order totals or stock counts do not
+ * cause reindexing.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminSearchChangeListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AdminSearchIndexer indexer;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        SearchEntityType type = SearchEntityType.of(event.getPersister().getMappedClass());
+        if (type == null) {
+            return;
+        }
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            enqueue(event.getPersister(), event.getId());
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : dirty) {
+            if (type.isIndexed(names[index])) {
+                enqueue(event.getPersister(), event.getId());
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return SearchEntityType.of(persister.getMappedClass()) != null;
+    }
+
+    private void enqueue(EntityPersister persister, Object id) {
+        SearchEntityType type = SearchEntityType.of(persister.getMappedClass());
+        if (type != null && id instanceof Long entityId) {
+            indexer.enqueue(type, entityId);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ecommerce.search;
+
+import com.ecommerce.repository.AdminSearchJdbcRepository;
+import com.ecommerce.repository.AdminSearchJdbcRepository.Document;
+import com.ecommerce.workload.WorkloadClass;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the admin search index in step with its source tables. Changed
+ * rows are queued by id (from {@link AdminSearchChangeListener} for JPA
+ * writes, or {@link #markChanged} for SQL writes) and rewritten by a single
+ * indexer thread. The queue lives in memory, so after startup the thread
+ * also reconciles the index with its sources: rows with no document or
+ * with an updated_at newer than their document's are reindexed, and
+ * documents whose row is gone are removed. The index trails commits by up
+ * to admin-search.refresh-interval-ms.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminSearchIndexer {
+
+    // Ids per IN list when reloading changed rows
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final AdminSearchJdbcRepository searchJdbcRepository;
+    private final AdminSearchProperties properties;
+
+    private final Map<SearchEntityType, Set<Long>> pending = pendingSets();
+    private final Map<SearchEntityType, Long> backfillPosition = new EnumMap<>(SearchEntityType.class);
+    private volatile boolean backfilled;
+    private volatile Thread worker;
+
+    private static Map<SearchEntityType, Set<Long>> pendingSets() {
+        Map<SearchEntityType, Set<Long>> sets = new EnumMap<>(SearchEntityType.class);
+        for (SearchEntityType type : SearchEntityType.values()) {
+            sets.put(type, ConcurrentHashMap.newKeySet());
+        }
+        return sets;
+    }
+
+    /**
+     * Queues rows changed by SQL for reindexing once the current
+     * transaction commits.
+     */
+    public void markChanged(SearchEntityType type, Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(entityIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.get(type).addAll(ids);
+                }
+            });
+        } else {
+            pending.get(type).addAll(ids);
+        }
+    }
+
+    /**
+     * Queues orders changed by SQL and identified by order number.
+     */
+    public void markOrdersChanged(Collection<String> orderNumbers) {
+        markChanged(SearchEntityType.ORDER, searchJdbcRepository.findOrderIdsByNumber(orderNumbers));
+    }
+
+    // Called after commit by the Hibernate listener
+    void enqueue(SearchEntityType type, long entityId) {
+        pending.get(type).add(entityId);
+    }
+
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(WorkloadClass.background(this::run), "admin-search-indexer");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        long backfilledRows = 0;
+        while (worker == Thread.currentThread()) {
+            try {
+                refresh();
+                if (!backfilled) {
+                    int indexed = backfillBatch();
+                    backfilledRows += indexed;
+                    if (indexed > 0) {
+                        continue;
+                    }
+                    backfilled = true;
+                    log.info("Admin search index reconciled: {} documents written in {} ms", backfilledRows,
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+                Thread.sleep(properties.getRefreshIntervalMs());
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Admin search indexing failed, retrying: {}", e.getMessage());
+                try {
+                    Thread.sleep(properties.getRefreshIntervalMs());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Rewrites the documents of queued rows; rows gone from their source lose their document
+    void refresh() {
+        for (SearchEntityType type : SearchEntityType.values()) {
+            Set<Long> queued = pending.get(type);
+            while (!queued.isEmpty()) {
+                List<Long> ids = new ArrayList<>(REFRESH_CHUNK_SIZE);
+                Iterator<Long> iterator = queued.iterator();
+                while (iterator.hasNext() && ids.size() < REFRESH_CHUNK_SIZE) {
+                    ids.add(iterator.next());
+                    iterator.remove();
+                }
+                try {
+                    List<Long> docIds = ids.stream().map(type::documentId).toList();
+                    searchJdbcRepository.replace(docIds, searchJdbcRepository.loadDocuments(type, ids));
+                } catch (RuntimeException e) {
+                    queued.addAll(ids);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // One batch of orphaned documents and of missing or stale rows per type; returns the number changed
+    private int backfillBatch() {
+        int indexed = 0;
+        for (SearchEntityType type : SearchEntityType.values()) {
+            List<Long> orphaned = searchJdbcRepository.findOrphanedDocumentIds(type,
+                    properties.getBackfillBatchSize());
+            if (!orphaned.isEmpty()) {
+                searchJdbcRepository.replace(orphaned, List.of());
+                indexed += orphaned.size();
+            }
+            long afterId = backfillPosition.getOrDefault(type, 0L);
+            List<Document> documents = searchJdbcRepository.loadStaleDocuments(type, afterId,
+                    properties.getBackfillBatchSize());
+            if (documents.isEmpty()) {
+                continue;
+            }
+            searchJdbcRepository.replace(documents.stream().map(Document::getDocId).toList(), documents);
+            backfillPosition.put(type, documents.get(documents.size() - 1).getEntityId());
+            indexed += documents.size();
+        }
+        return indexed;
+    }
+}
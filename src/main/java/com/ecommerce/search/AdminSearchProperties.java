@@ -0,0 +1,23 @@
+package com.ecommerce.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admin search index settings, bound from admin-search.*.
+ */
+@Component
+@ConfigurationProperties(prefix = "admin-search")
+@Data
+public class AdminSearchProperties {
+
+    // How often changed rows are written to the index
+    private long refreshIntervalMs = 1000;
+
+    // Matching documents read per search before ranking
+    private int candidateLimit = 200;
+
+    // Rows indexed per round trip by the startup backfill
+    private int backfillBatchSize = 1000;
+}
@@ -0,0 +1,163 @@
+package com.ecommerce.search;
+
+import com.ecommerce.dto.AdminSearchResultDto;
+import com.ecommerce.repository.AdminSearchJdbcRepository;
+import com.ecommerce.repository.AdminSearchJdbcRepository.Document;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * One search box for the admin panel. A term is matched against the
+ * trigram index of customers, orders, warranties, inventory items and
+ * discounts (order and warranty numbers, serial numbers, item ids, emails,
+ * phones, names and addresses) and the matches come back as typed hits,
+ * best first.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminSearchService {
+
+    static final int MAX_LIMIT = 100;
+
+    // The rarest grams of a term are joined; the LIKE check keeps matches exact
+    private static final int MAX_TERM_GRAMS = 4;
+    // Documents counted per gram when picking the rarest
+    private static final int GRAM_COUNT_CAP = 1000;
+
+    private static final Pattern PHONE = Pattern.compile("\\+?[\\d\\s().-]+");
+    private static final int MIN_PHONE_DIGITS = 7;
+
+    // A word of the document equals the whole term: an id, email, phone or one-word name
+    private static final int EXACT = 100;
+    // The words of the term appear as consecutive words, like a full name
+    private static final int PHRASE = 80;
+    // A word of the document starts with the whole term, like a partial order number
+    private static final int PREFIX = 60;
+    // Every word of the term starts a word of the document
+    private static final int WORD_START = 40;
+    private static final int SUBSTRING = 20;
+
+    private final AdminSearchJdbcRepository searchJdbcRepository;
+    private final AdminSearchIndexer indexer;
+    private final AdminSearchProperties properties;
+
+    /**
+     * Ranks the documents matching the query. Ties go to the type listed
+     * first in {@link SearchEntityType}, then to the newest row.
+     *
+     * @param types entity types to search; empty for all
+     */
+    @Timed(value = "admin.search", histogram = true)
+    public AdminSearchResultDto search(String query, Set<SearchEntityType> types, int limit) {
+        Set<SearchEntityType> searched = types.isEmpty() ? EnumSet.allOf(SearchEntityType.class) : types;
+        List<String> words = termWords(query);
+        if (words.isEmpty()) {
+            return result(query, List.of(), new EnumMap<>(SearchEntityType.class), false);
+        }
+
+        List<String> grams = rarestGrams(SearchKeys.termGrams(String.join(" ", words)));
+        if (grams.isEmpty()) {
+            return result(query, List.of(), new EnumMap<>(SearchEntityType.class), false);
+        }
+        List<Document> candidates = searchJdbcRepository.findByGrams(grams, "%" + String.join("%", words) + "%",
+                searched, properties.getCandidateLimit());
+
+        Map<SearchEntityType, Integer> counts = new EnumMap<>(SearchEntityType.class);
+        List<AdminSearchResultDto.HitDto> hits = new ArrayList<>(candidates.size());
+        for (Document document : candidates) {
+            counts.merge(document.getType(), 1, Integer::sum);
+            hits.add(AdminSearchResultDto.HitDto.builder()
+                    .type(document.getType())
+                    .id(document.getEntityId())
+                    .title(document.getTitle())
+                    .subtitle(document.getSubtitle())
+                    .href(document.getType().href(document.getEntityId()))
+                    .score(score(document.getText(), words))
+                    .build());
+        }
+        hits.sort(Comparator.comparingInt(AdminSearchResultDto.HitDto::getScore).reversed()
+                .thenComparing(AdminSearchResultDto.HitDto::getType)
+                .thenComparing(AdminSearchResultDto.HitDto::getId, Comparator.reverseOrder()));
+
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return result(query, hits.size() > max ? new ArrayList<>(hits.subList(0, max)) : hits, counts,
+                candidates.size() >= properties.getCandidateLimit());
+    }
+
+    // A long identifier shares its leading grams with every other one
+    // ("ord", "202"), so the join starts from the grams fewest documents
+    // hold. Empty when a gram is in no document at all.
+    private List<String> rarestGrams(Set<String> termGrams) {
+        List<String> grams = new ArrayList<>(termGrams);
+        if (grams.size() <= 1) {
+            return grams;
+        }
+        Map<String, Integer> counts = searchJdbcRepository.countGrams(grams, GRAM_COUNT_CAP);
+        grams.sort(Comparator.comparingInt(gram -> counts.getOrDefault(gram, 0)));
+        if (counts.getOrDefault(grams.get(0), 0) == 0) {
+            return List.of();
+        }
+        return grams.size() > MAX_TERM_GRAMS ? grams.subList(0, MAX_TERM_GRAMS) : grams;
+    }
+
+    // Phone numbers are searched by their key, so "+91 98765 43210" finds "098765-43210"
+    private static List<String> termWords(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String trimmed = query.trim();
+        if (PHONE.matcher(trimmed).matches() && SearchKeys.digits(trimmed).length() >= MIN_PHONE_DIGITS) {
+            return List.of(SearchKeys.phoneKey(trimmed));
+        }
+        String key = SearchKeys.nameKey(trimmed);
+        return key.isEmpty() ? List.of() : Arrays.asList(key.split(" "));
+    }
+
+    static int score(String text, List<String> words) {
+        String[] tokens = text.split(" ");
+        String whole = String.join("", words);
+        boolean prefix = false;
+        for (String token : tokens) {
+            if (token.equals(whole)) {
+                return EXACT;
+            }
+            prefix |= token.startsWith(whole);
+        }
+        if (words.size() > 1 && (" " + text + " ").contains(" " + String.join(" ", words) + " ")) {
+            return PHRASE;
+        }
+        if (prefix) {
+            return PREFIX;
+        }
+        for (String word : words) {
+            if (Arrays.stream(tokens).noneMatch(token -> token.startsWith(word))) {
+                return SUBSTRING;
+            }
+        }
+        return WORD_START;
+    }
+
+    private AdminSearchResultDto result(String query, List<AdminSearchResultDto.HitDto> hits,
+                                        Map<SearchEntityType, Integer> counts, boolean truncated) {
+        return AdminSearchResultDto.builder()
+                .query(query)
+                .hits(hits)
+                .counts(counts)
+                .truncated(truncated)
+                .indexComplete(indexer.isBackfilled())
+                .build();
+    }
+}
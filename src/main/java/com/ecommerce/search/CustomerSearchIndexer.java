@@ -0,0 +1,66 @@
+package com.ecommerce.search;
+
+import com.ecommerce.entity.User;
+import com.ecommerce.repository.CustomerSearchJdbcRepository;
+import com.ecommerce.repository.CustomerSearchJdbcRepository.UnkeyedUser;
+import com.ecommerce.workload.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the customer name index in step with the users table. Users saved
+ * through JPA get their key columns from the entity and their grams from
+ * {@link #index(User)}; users inserted by SQL (sample fixtures, generated
+ * datasets, rows older than the index) are indexed in the background after
+ * startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerSearchIndexer {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final CustomerSearchJdbcRepository searchJdbcRepository;
+
+    /**
+     * Replaces the name grams of a saved user; call inside the transaction
+     * that changed the name.
+     */
+    public void index(User user) {
+        searchJdbcRepository.replaceGrams(user.getId(),
+                SearchKeys.nameGrams(SearchKeys.nameKey(user.getName())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        Thread thread = new Thread(WorkloadClass.background(this::backfill), "customer-search-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void backfill() {
+        long start = System.nanoTime();
+        long indexed = 0;
+        long afterId = 0;
+        try {
+            List<UnkeyedUser> batch;
+            while (!(batch = searchJdbcRepository.findUnkeyedUsers(afterId, BACKFILL_BATCH_SIZE)).isEmpty()) {
+                searchJdbcRepository.index(batch);
+                indexed += batch.size();
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            log.error("Customer search backfill stopped after {} users", indexed, e);
+            return;
+        }
+        if (indexed > 0) {
+            log.info("Indexed {} users for customer search in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.ecommerce.search;
+
+import com.ecommerce.dto.CursorPageDto;
+import com.ecommerce.entity.User;
+import com.ecommerce.exception.BadRequestException;
+import com.ecommerce.repository.CustomerSearchJdbcRepository;
+import com.ecommerce.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Customer lookup for the dashboard and admin APIs. The term decides the
+ * key it is matched against:
+ * <ul>
+ *   <li>CUST-000123 or a number of up to six digits: the customer id</li>
+ *   <li>anything with an @: the lowercase email</li>
+ *   <li>seven or more digits with phone punctuation: the phone number</li>
+ *   <li>everything else: the name trigram index</li>
+ * </ul>
+ * Every lookup is an indexed, role-filtered query returning one keyset page
+ * ordered by customer id.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CustomerSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Enough grams to make a term selective; the LIKE check keeps results exact
+    private static final int MAX_TERM_GRAMS = 6;
+
+    private static final Pattern CUSTOMER_NUMBER = Pattern.compile("(?i)cust-?\\s*(\\d{1,18})");
+    private static final Pattern SHORT_NUMBER = Pattern.compile("\\d{1,6}");
+    private static final Pattern PHONE = Pattern.compile("\\+?[\\d\\s().-]+");
+    private static final int MIN_PHONE_DIGITS = 7;
+
+    private final UserRepository userRepository;
+    private final CustomerSearchJdbcRepository searchJdbcRepository;
+
+    @Timed(value = "customer.search", histogram = true)
+    public CursorPageDto<User> search(String term, String cursor, int size) {
+        String trimmed = term == null ? "" : term.trim();
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long afterId = cursor == null || cursor.isBlank() ? 0L : decodeCursor(cursor);
+        if (trimmed.isEmpty()) {
+            return new CursorPageDto<>(List.of(), null);
+        }
+
+        Matcher customerNumber = CUSTOMER_NUMBER.matcher(trimmed);
+        if (customerNumber.matches()) {
+            return findById(customerNumber.group(1), afterId);
+        }
+        if (SHORT_NUMBER.matcher(trimmed).matches()) {
+            return findById(trimmed, afterId);
+        }
+
+        PageRequest page = PageRequest.of(0, limit + 1);
+        if (trimmed.indexOf('@') >= 0) {
+            return toPage(userRepository.findCustomersByEmailKey(SearchKeys.emailKey(trimmed), afterId, page),
+                    limit);
+        }
+        if (PHONE.matcher(trimmed).matches() && SearchKeys.digits(trimmed).length() >= MIN_PHONE_DIGITS) {
+            return toPage(userRepository.findCustomersByPhoneKey(SearchKeys.phoneKey(trimmed), afterId, page),
+                    limit);
+        }
+        return searchByName(trimmed, afterId, limit);
+    }
+
+    private CursorPageDto<User> searchByName(String term, long afterId, int limit) {
+        String termKey = SearchKeys.nameKey(term);
+        if (termKey.isEmpty()) {
+            return new CursorPageDto<>(List.of(), null);
+        }
+        List<String> grams = new ArrayList<>(SearchKeys.termGrams(termKey));
+        if (grams.size() > MAX_TERM_GRAMS) {
+            grams = grams.subList(0, MAX_TERM_GRAMS);
+        }
+        // Words must appear in order, as with the old substring search
+        String namePattern = "%" + termKey.replace(' ', '%') + "%";
+
+        List<Long> ids = searchJdbcRepository.findCustomerIdsByGrams(grams, namePattern, afterId, limit + 1);
+        if (ids.isEmpty()) {
+            return new CursorPageDto<>(List.of(), null);
+        }
+        return toPage(userRepository.findByIdInOrderById(ids), limit);
+    }
+
+    private CursorPageDto<User> findById(String digits, long afterId) {
+        long id;
+        try {
+            id = Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return new CursorPageDto<>(List.of(), null);
+        }
+        List<User> customers = userRepository.findById(id)
+                .filter(user -> user.getRole() == User.Role.CUSTOMER && user.getId() > afterId)
+                .map(List::of)
+                .orElse(List.of());
+        return new CursorPageDto<>(customers, null);
+    }
+
+    // Rows are fetched one past the page size to learn whether another page follows
+    private static CursorPageDto<User> toPage(List<User> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new CursorPageDto<>(rows, null);
+        }
+        List<User> items = rows.subList(0, limit);
+        return new CursorPageDto<>(new ArrayList<>(items), encodeCursor(items.get(limit - 1).getId()));
+    }
+
+    // Cursors are the id of the last customer on a page, opaque to clients
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+}
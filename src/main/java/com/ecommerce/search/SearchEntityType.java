@@ -0,0 +1,73 @@
+package com.ecommerce.search;
+
+import com.ecommerce.entity.Discount;
+import com.ecommerce.entity.InventoryItem;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.User;
+import com.ecommerce.entity.Warranty;
+
+import java.util.Set;
+
+/**
+ * Entity types in the admin search index, in the order hits of equal score
+ * are listed. Each type names the entity properties its search document is
+ * built from; changes to other properties do not reindex the row.
+ */
+public enum SearchEntityType {
+
+    CUSTOMER(User.class, "/dashboard/customers/",
+            Set.of("name", "email", "phone", "address", "city", "role")),
+    ORDER(Order.class, "/api/admin/orders/",
+            Set.of("orderNumber", "trackingNumber", "status")),
+    WARRANTY(Warranty.class, "/api/admin/warranties/",
+            Set.of("warrantyNumber", "serialNumber", "product")),
+    INVENTORY_ITEM(InventoryItem.class, "/admin/items/",
+            Set.of("itemId", "serialNumber", "name", "customerName", "customerPhone", "customerEmail",
+                    "address", "city")),
+    DISCOUNT(Discount.class, "/api/admin/discounts/",
+            Set.of("code", "name"));
+
+    // Document ids interleave the types: entity id * 8 + ordinal
+    private static final int TYPE_BITS = 3;
+
+    private final Class<?> entityClass;
+    private final String href;
+    private final Set<String> indexedProperties;
+
+    SearchEntityType(Class<?> entityClass, String href, Set<String> indexedProperties) {
+        this.entityClass = entityClass;
+        this.href = href;
+        this.indexedProperties = indexedProperties;
+    }
+
+    public long documentId(long entityId) {
+        return (entityId << TYPE_BITS) | ordinal();
+    }
+
+    /**
+     * {@link #documentId} as an SQL expression over an id column.
+     */
+    public String documentIdSql(String idColumn) {
+        return "(" + idColumn + " * " + (1 << TYPE_BITS) + " + " + ordinal() + ")";
+    }
+
+    /**
+     * The type indexing the given entity class, or null.
+     */
+    public static SearchEntityType of(Class<?> entityClass) {
+        for (SearchEntityType type : values()) {
+            if (type.entityClass == entityClass) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public String href(long entityId) {
+        return href + entityId;
+    }
+
+    public boolean isIndexed(String property) {
+        return indexedProperties.contains(property);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ecommerce.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized lookup keys for the customer and admin search indexes. The
+ * same functions are used when a row is indexed and when a search term is
+ * parsed, so both sides always agree.
+ */
+public final class SearchKeys {
+
+    // National number length; longer numbers lose their country code
+    public static final int PHONE_KEY_DIGITS = 10;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchKeys() {
+    }
+
+    public static String emailKey(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Digits of the phone number, keeping the last ten so "+91 98765 43210"
+     * and "098765-43210" share a key. Null when there are no digits.
+     */
+    public static String phoneKey(String phone) {
+        String digits = digits(phone);
+        if (digits.isEmpty()) {
+            return null;
+        }
+        return digits.length() > PHONE_KEY_DIGITS ? digits.substring(digits.length() - PHONE_KEY_DIGITS) : digits;
+    }
+
+    public static String digits(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Lowercase name without accents or punctuation, words separated by a
+     * single space: "José  O'Brien" becomes "jose o brien".
+     */
+    public static String nameKey(String name) {
+        if (name == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * An identifier as one lowercase word without punctuation, so
+     * "ORD-20260101-AB12" and "ord20260101ab12" index the same way.
+     */
+    public static String compactKey(String identifier) {
+        return nameKey(identifier).replace(" ", "");
+    }
+
+    /**
+     * Trigrams indexed for a name. Each word is padded with two leading
+     * spaces and one trailing space, so "ann lee" gives "  a", " an", "ann",
+     * "nn ", "  l", " le", "lee" and "ee ". The padded grams let one- and
+     * two-letter terms match the start of a word.
+     */
+    public static Set<String> nameGrams(String nameKey) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(nameKey)) {
+            addTrigrams(grams, "  " + word + " ");
+        }
+        return grams;
+    }
+
+    /**
+     * Trigrams a name must contain to match the term. Words of three or
+     * more letters match anywhere in a name word; shorter words match the
+     * start of a word.
+     */
+    public static Set<String> termGrams(String termKey) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(termKey)) {
+            if (word.length() == 1) {
+                grams.add("  " + word);
+            } else if (word.length() == 2) {
+                grams.add(" " + word);
+            } else {
+                addTrigrams(grams, word);
+            }
+        }
+        return grams;
+    }
+
+    private static String[] words(String key) {
+        return key.isEmpty() ? new String[0] : key.split(" ");
+    }
+
+    private static void addTrigrams(Set<String> grams, String padded) {
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.search;
+
+import com.ecommerce.entity.InventoryItem;
+import com.ecommerce.entity.Product;
+import com.ecommerce.entity.SerialRegistration.RecordType;
+import com.ecommerce.entity.Warranty;
+import com.ecommerce.repository.SerialRegistryJdbcRepository;
+import com.ecommerce.repository.SerialRegistryJdbcRepository.UnregisteredSerial;
+import com.ecommerce.workload.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps serial_registry in step with the serial numbers of products,
+ * warranties and inventory items. The services that write serials register
+ * them in the same transaction; records inserted by SQL (sample fixtures,
+ * generated datasets, rows older than the registry) are registered in the
+ * background after startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SerialRegistryIndexer {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final SerialRegistryJdbcRepository registryRepository;
+
+    public void register(Product product) {
+        registryRepository.register(RecordType.PRODUCT, product.getId(), product.getSerialNumber());
+    }
+
+    public void register(Warranty warranty) {
+        registryRepository.register(RecordType.WARRANTY, warranty.getId(), warranty.getSerialNumber());
+    }
+
+    public void register(InventoryItem item) {
+        registryRepository.register(RecordType.INVENTORY_ITEM, item.getId(), item.getSerialNumber());
+    }
+
+    public void unregister(InventoryItem item) {
+        registryRepository.unregister(RecordType.INVENTORY_ITEM, item.getId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        Thread thread = new Thread(WorkloadClass.background(this::backfill), "serial-registry-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void backfill() {
+        long start = System.nanoTime();
+        long registered = 0;
+        try {
+            for (RecordType type : RecordType.values()) {
+                long afterId = 0;
+                List<UnregisteredSerial> batch;
+                while (!(batch = registryRepository.findUnregistered(type, afterId, BACKFILL_BATCH_SIZE)).isEmpty()) {
+                    registryRepository.registerAll(type, batch);
+                    registered += batch.size();
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Serial registry backfill stopped after {} records", registered, e);
+            return;
+        }
+        if (registered > 0) {
+            log.info("Registered {} serial numbers in {} ms", registered, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Delegates encoding and matching to the wrapped encoder on the
+ * {@link PasswordHashingExecutor}, keeping BCrypt off the request threads.
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
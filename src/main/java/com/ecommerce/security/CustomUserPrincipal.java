@@ -32,6 +32,20 @@ public class CustomUserPrincipal implements UserDetails {
         );
     }
     
+    // Principal rebuilt from verified JWT claims; no password is needed
+    // because the token itself is the credential
+    public CustomUserPrincipal(Long id, String email, String name, User.Role role) {
+        this.id = id;
+        this.email = email;
+        this.password = null;
+        this.name = name;
+        this.role = role;
+        this.enabled = true;
+        this.authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + role.name())
+        );
+    }
+    
     @Override
     public String getUsername() {
         return email;
@@ -0,0 +1,83 @@
+package com.ecommerce.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Signs and verifies the anonymous shopper's cart, which lives entirely on
+ * the client as an HMAC-signed token ("productId:quantity,..." in one claim).
+ */
+@Component
+@Slf4j
+public class GuestCartTokenProvider {
+
+    private static final String ITEMS_CLAIM = "c";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expiration;
+
+    public GuestCartTokenProvider(@Value("${guest-cart.secret}") String secret,
+                                  @Value("${guest-cart.expiration}") long expiration) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expiration = expiration;
+    }
+
+    public String generateToken(Map<Long, Integer> items) {
+        String encoded = items.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+        Date now = new Date();
+
+        return Jwts.builder()
+                .claim(ITEMS_CLAIM, encoded)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + expiration))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * Returns the cart encoded in the token, or an empty cart when the token
+     * is missing, expired or has been tampered with.
+     */
+    public Map<Long, Integer> parseToken(String token) {
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        if (!StringUtils.hasText(token)) {
+            return items;
+        }
+
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            String encoded = claims.get(ITEMS_CLAIM, String.class);
+            if (!StringUtils.hasText(encoded)) {
+                return items;
+            }
+            for (String line : encoded.split(",")) {
+                String[] parts = line.split(":");
+                if (parts.length == 2) {
+                    items.put(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+                }
+            }
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Ignoring invalid guest cart token: {}", ex.getMessage());
+            items.clear();
+        }
+        return items;
+    }
+}
@@ -1,5 +1,7 @@
 package com.ecommerce.security;
 
+import com.ecommerce.monitoring.jfr.JwtAuthenticationEvent;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -24,35 +25,67 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final JwtPrincipalCache principalCache;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String email = tokenProvider.getEmailFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                CustomUserPrincipal principal = resolvePrincipal(jwt, event);
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, 
-                                null, 
-                                userDetails.getAuthorities()
-                        );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (principal != null && principal.isEnabled() && !principalCache.isDisabled(principal.getId())) {
+                    UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(
+                                    principal, 
+                                    null, 
+                                    principal.getAuthorities()
+                            );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    event.userId = principal.getId();
+                    event.authenticated = true;
+                }
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
         }
+        event.commit();
         
         filterChain.doFilter(request, response);
     }
     
+    // Cached tokens skip verification entirely; otherwise the token is parsed
+    // once and the principal is built from its claims. Only tokens issued
+    // without the user ID claim still need a users lookup.
+    private CustomUserPrincipal resolvePrincipal(String jwt, JwtAuthenticationEvent event) {
+        CustomUserPrincipal principal = principalCache.get(jwt);
+        if (principal != null) {
+            event.cacheHit = true;
+            return principal;
+        }
+        
+        Claims claims = tokenProvider.parseClaims(jwt);
+        if (claims == null) {
+            return null;
+        }
+        
+        principal = tokenProvider.getPrincipalFromClaims(claims);
+        if (principal == null) {
+            principal = (CustomUserPrincipal) userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (claims.getExpiration() != null) {
+            principalCache.put(jwt, principal, claims.getExpiration().getTime());
+        }
+        return principal;
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
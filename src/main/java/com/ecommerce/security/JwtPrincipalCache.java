@@ -0,0 +1,115 @@
+package com.ecommerce.security;
+
+import com.ecommerce.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of verified tokens to their principal, plus the set of
+ * disabled user IDs. Together they let the JWT filter authenticate a request
+ * without re-verifying the signature or querying the users table.
+ */
+@Component
+@Slf4j
+public class JwtPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Set<Long> disabledUserIds = ConcurrentHashMap.newKeySet();
+
+    public JwtPrincipalCache(UserRepository userRepository,
+                             @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDisabledUsers() {
+        disabledUserIds.addAll(userRepository.findIdsByEnabledFalse());
+        log.info("Loaded {} disabled users for JWT authentication", disabledUserIds.size());
+    }
+
+    /**
+     * Returns the cached principal for a token that was verified earlier and
+     * has not expired yet, or null.
+     */
+    public CustomUserPrincipal get(String token) {
+        Entry entry = tokens.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            tokens.remove(token);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    public void put(String token, CustomUserPrincipal principal, long expiresAt) {
+        if (tokens.size() >= maxSize) {
+            evict();
+        }
+        tokens.put(token, new Entry(principal, expiresAt));
+    }
+
+    public boolean isDisabled(Long userId) {
+        return disabledUserIds.contains(userId);
+    }
+
+    // Called when an admin enables or disables an account; applied once the
+    // transaction commits, so a rollback cannot leave the cache out of step
+    // with the users table. Takes effect on the user's next request even for
+    // tokens that are already cached.
+    public void setUserDisabled(Long userId, boolean disabled) {
+        Runnable apply = () -> {
+            if (disabled) {
+                disabledUserIds.add(userId);
+            } else {
+                disabledUserIds.remove(userId);
+            }
+            tokens.values().removeIf(entry -> entry.principal.getId().equals(userId));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    // Drops expired tokens first; if the cache is still full, drops an
+    // arbitrary tenth of it. Evicted tokens are simply verified again.
+    private void evict() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(entry -> entry.expiresAt <= now);
+
+        int toRemove = tokens.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = tokens.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final CustomUserPrincipal principal;
+        private final long expiresAt;
+    }
+}
@@ -1,11 +1,12 @@
 package com.ecommerce.security;
 
+import com.ecommerce.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -15,56 +16,77 @@ import java.util.Date;
 @Component
 @Slf4j
 public class JwtTokenProvider {
-    
+
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String NAME_CLAIM = "name";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
-    
+
     @Value("${jwt.expiration}")
     private long jwtExpiration;
-    
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+
+    // Built once; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
     }
-    
+
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateToken(userDetails.getUsername());
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        return generateToken(principal.getId(), principal.getEmail(), principal.getName(), principal.getRole());
+    }
+
+    public String generateToken(User user) {
+        return generateToken(user.getId(), user.getEmail(), user.getName(), user.getRole());
     }
-    
-    public String generateToken(String email) {
+
+    // User ID, role and name travel as claims so requests can be
+    // authenticated without loading the user
+    private String generateToken(Long userId, String email, String name, User.Role role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
-        
+
         return Jwts.builder()
                 .subject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, role.name())
+                .claim(NAME_CLAIM, name)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
-    
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getSubject();
-    }
-    
-    public boolean validateToken(String token) {
+
+    /**
+     * Verifies the token once and returns its claims, or null if the token is
+     * malformed, expired or not signed with our key.
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
-            return false;
+            return null;
         }
     }
-}
 
+    /**
+     * Builds the principal from verified claims, or returns null for tokens
+     * issued before the user ID and role claims were added.
+     */
+    public CustomUserPrincipal getPrincipalFromClaims(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new CustomUserPrincipal(userId, claims.getSubject(), claims.get(NAME_CLAIM, String.class),
+                User.Role.valueOf(role));
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.security;
+
+import com.ecommerce.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs CPU-bound password hashing on a small dedicated pool so a login burst
+ * cannot occupy every request thread. When the queue is full, or a hash
+ * cannot start within the wait limit, the caller gets a 429 right away
+ * instead of queueing behind the burst.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ExecutorService executor;
+    private final long maxWaitMillis;
+    private final MeterRegistry meterRegistry;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${password-hashing.threads:0}") int threads,
+                                   @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${password-hashing.max-wait-ms:2000}") long maxWaitMillis) {
+        // Default to half the cores so hashing always leaves CPU for other requests
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hashing");
+        this.maxWaitMillis = maxWaitMillis;
+        this.meterRegistry = meterRegistry;
+        this.queueFullRejections = Counter.builder("password.hashing.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder("password.hashing.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        log.info("Password hashing pool: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer timer = Timer.builder("password.hashing.duration")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new TooManyRequestsException("Too many sign-in requests, please retry shortly", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutRejections.increment();
+            throw new TooManyRequestsException("Too many sign-in requests, please retry shortly", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
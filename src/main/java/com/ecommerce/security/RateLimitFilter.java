@@ -0,0 +1,136 @@
+package com.ecommerce.security;
+
+import com.ecommerce.config.RateLimitProperties;
+import com.ecommerce.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client request limits for route groups declared in SecurityConfig.
+ * Runs after JWT authentication so signed-in users are limited by user ID
+ * and anonymous clients by IP address. Rejected requests get a 429 before
+ * reaching any controller or service.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final List<RouteGroup> routeGroups = new ArrayList<>();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Adds a route group with the limit configured under
+     * rate-limit.groups.{name}. The first matching group applies.
+     */
+    public RateLimitFilter routeGroup(String name, String... patterns) {
+        RateLimitProperties.Limit limit = properties.getLimit(name);
+        RequestMatcher matcher = new OrRequestMatcher(Arrays.stream(patterns)
+                .map(pattern -> (RequestMatcher) new AntPathRequestMatcher(pattern))
+                .toList());
+        routeGroups.add(new RouteGroup(matcher,
+                new RateLimiter(limit.getRate(), limit.getBurst(), properties.getMaxKeys()),
+                counter(name, "allowed"), counter(name, "rejected")));
+        return this;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = findGroup(request);
+        if (group != null) {
+            long waitNanos = group.limiter.tryAcquire(clientKey(request));
+            if (waitNanos > 0) {
+                group.rejected.increment();
+                reject(response, waitNanos);
+                return;
+            }
+            group.allowed.increment();
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteGroup findGroup(HttpServletRequest request) {
+        for (RouteGroup group : routeGroups) {
+            if (group.matcher.matches(request)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return "user:" + principal.getId();
+        }
+        // The client address, resolved from X-Forwarded-For when a trusted
+        // proxy sent the request (server.tomcat.remoteip)
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded, please retry later")
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private Counter counter(String group, String outcome) {
+        return Counter.builder("rate.limit.requests")
+                .tag("group", group)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @AllArgsConstructor
+    private static class RouteGroup {
+
+        private final RequestMatcher matcher;
+        private final RateLimiter limiter;
+        private final Counter allowed;
+        private final Counter rejected;
+    }
+}
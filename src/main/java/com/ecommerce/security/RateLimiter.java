@@ -0,0 +1,57 @@
+package com.ecommerce.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket using the generic cell rate algorithm: each key
+ * stores only its theoretical arrival time, advanced with a CAS loop, so
+ * concurrent requests for the same client never block each other.
+ *
+ * <p>Keys live in a cache holding at most maxKeys entries, so a flood of
+ * spoofed clients evicts the least useful keys in amortized constant time
+ * instead of growing the map. A key idle for longer than one full bucket
+ * refill expires, since an untracked key behaves the same.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final Cache<String, AtomicLong> arrivalTimes;
+
+    public RateLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.arrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(toleranceNanos + emissionIntervalNanos))
+                .build();
+    }
+
+    /**
+     * Takes a permit for the key. Returns 0 when the request is allowed,
+     * otherwise the nanoseconds until the next permit becomes available.
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong arrivalTime = arrivalTimes.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = arrivalTime.get();
+            long allowedAt = current - toleranceNanos;
+            if (now < allowedAt) {
+                return allowedAt - now;
+            }
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            if (arrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
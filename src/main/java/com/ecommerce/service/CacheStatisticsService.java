@@ -0,0 +1,74 @@
+package com.ecommerce.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hit, miss and put counts for the Hibernate second-level and query caches.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public Map<String, Object> getStatistics() {
+        Statistics statistics = statistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(name -> {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                regions.put(name, counts(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        // Off unless hibernate.generate_statistics is set, and then every count is 0
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("since", statistics.getStartTime());
+        result.put("secondLevelCache", counts(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        result.put("queryCache", counts(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        result.put("regions", regions);
+        return result;
+    }
+
+    public void resetStatistics() {
+        statistics().clear();
+    }
+
+    // Drops every cached entity and query result, e.g. after editing data
+    // directly in the database
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        sessionFactory().getCache().evictQueryRegions();
+    }
+
+    private Statistics statistics() {
+        return sessionFactory().getStatistics();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private static Map<String, Object> counts(long hits, long misses, long puts) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        long lookups = hits + misses;
+        counts.put("hitRatio", lookups == 0 ? 0.0 : Math.round(hits * 1000.0 / lookups) / 1000.0);
+        return counts;
+    }
+}
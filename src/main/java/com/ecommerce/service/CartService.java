@@ -1,17 +1,25 @@
 package com.ecommerce.service;
 
+import com.ecommerce.dto.CartBatchRequest;
 import com.ecommerce.dto.CartItemDto;
 import com.ecommerce.entity.CartItem;
 import com.ecommerce.entity.Product;
 import com.ecommerce.entity.User;
 import com.ecommerce.exception.BadRequestException;
+import com.ecommerce.exception.ResourceNotFoundException;
 import com.ecommerce.repository.CartItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -73,6 +81,147 @@ public class CartService {
         return CartItemDto.fromEntity(cartItemRepository.save(cartItem));
     }
     
+    /**
+     * Applies a list of add/update/remove operations in one transaction.
+     * Products for the whole batch are loaded with a single query and the
+     * resulting cart is validated before anything is written.
+     */
+    public List<CartItemDto> applyBatch(Long userId, CartBatchRequest request) {
+        return applyOperations(userId, request.getOperations(), false);
+    }
+    
+    /**
+     * Merges an anonymous guest cart into the user's persistent cart in one
+     * batch. Unlike {@link #applyBatch}, lines for unavailable products are
+     * dropped and quantities are capped at the available stock so that a
+     * stale guest cart never blocks login.
+     */
+    public List<CartItemDto> mergeGuestCart(Long userId, Map<Long, Integer> guestItems) {
+        if (guestItems.isEmpty()) {
+            return getCartItems(userId);
+        }
+        List<CartBatchRequest.Operation> operations = guestItems.entrySet().stream()
+                .map(entry -> CartBatchRequest.Operation.builder()
+                        .type(CartBatchRequest.OperationType.ADD)
+                        .productId(entry.getKey())
+                        .quantity(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+        return applyOperations(userId, operations, true);
+    }
+    
+    private List<CartItemDto> applyOperations(Long userId, List<CartBatchRequest.Operation> operations,
+                                              boolean lenient) {
+        Map<Long, CartItem> cart = new LinkedHashMap<>();
+        for (CartItem item : cartItemRepository.findByUserId(userId)) {
+            cart.put(item.getProduct().getId(), item);
+        }
+        
+        Set<Long> productIds = new HashSet<>(cart.keySet());
+        operations.forEach(op -> productIds.add(op.getProductId()));
+        Map<Long, Product> products = productService.findAllByIds(productIds);
+        
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        cart.forEach((productId, item) -> quantities.put(productId, item.getQuantity()));
+        Set<Long> touched = new HashSet<>();
+        
+        for (CartBatchRequest.Operation op : operations) {
+            Long productId = op.getProductId();
+            Product product = products.get(productId);
+            if (product == null) {
+                if (lenient) {
+                    continue;
+                }
+                throw new ResourceNotFoundException("Product", "id", productId);
+            }
+            
+            switch (op.getType()) {
+                case ADD:
+                    int quantity = op.getQuantity() != null ? op.getQuantity() : 1;
+                    if (quantity <= 0) {
+                        throw new BadRequestException("Quantity must be positive for: " + product.getName());
+                    }
+                    if (!product.getActive()) {
+                        if (lenient) {
+                            continue;
+                        }
+                        throw new BadRequestException("Product is not available: " + product.getName());
+                    }
+                    quantities.merge(productId, quantity, Integer::sum);
+                    break;
+                case UPDATE:
+                    if (!quantities.containsKey(productId)) {
+                        throw new BadRequestException("Item not found in cart: " + product.getName());
+                    }
+                    if (op.getQuantity() == null || op.getQuantity() <= 0) {
+                        quantities.remove(productId);
+                    } else {
+                        quantities.put(productId, op.getQuantity());
+                    }
+                    break;
+                case REMOVE:
+                    quantities.remove(productId);
+                    break;
+            }
+            touched.add(productId);
+        }
+        
+        for (Long productId : touched) {
+            Integer quantity = quantities.get(productId);
+            Product product = products.get(productId);
+            if (quantity != null && product.getStockQuantity() < quantity) {
+                if (lenient) {
+                    if (product.getStockQuantity() > 0) {
+                        quantities.put(productId, product.getStockQuantity());
+                    } else {
+                        quantities.remove(productId);
+                    }
+                    continue;
+                }
+                throw new BadRequestException("Insufficient stock for: " + product.getName() +
+                        ". Available: " + product.getStockQuantity());
+            }
+        }
+        
+        List<CartItem> toDelete = new ArrayList<>();
+        List<CartItem> toSave = new ArrayList<>();
+        for (Map.Entry<Long, CartItem> entry : cart.entrySet()) {
+            Integer quantity = quantities.get(entry.getKey());
+            CartItem item = entry.getValue();
+            if (quantity == null) {
+                toDelete.add(item);
+            } else if (!quantity.equals(item.getQuantity())) {
+                item.setQuantity(quantity);
+                toSave.add(item);
+            }
+        }
+        
+        User user = null;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (!cart.containsKey(entry.getKey())) {
+                if (user == null) {
+                    user = userService.findById(userId);
+                }
+                CartItem item = CartItem.builder()
+                        .user(user)
+                        .product(products.get(entry.getKey()))
+                        .quantity(entry.getValue())
+                        .build();
+                cart.put(entry.getKey(), item);
+                toSave.add(item);
+            }
+        }
+        
+        if (!toDelete.isEmpty()) {
+            cartItemRepository.deleteAllInBatch(toDelete);
+        }
+        cartItemRepository.saveAll(toSave);
+        
+        return quantities.keySet().stream()
+                .map(productId -> CartItemDto.fromEntity(cart.get(productId)))
+                .collect(Collectors.toList());
+    }
+    
     public void removeFromCart(Long userId, Long productId) {
         cartItemRepository.deleteByUserIdAndProductId(userId, productId);
     }
@@ -91,8 +240,14 @@ public class CartService {
     
     @Transactional(readOnly = true)
     public BigDecimal getCartTotal(Long userId) {
-        return cartItemRepository.findByUserId(userId)
-                .stream()
+        return calculateTotal(cartItemRepository.findByUserId(userId));
+    }
+    
+    /**
+     * Sum of price times quantity over the given cart lines.
+     */
+    public static BigDecimal calculateTotal(Collection<CartItem> items) {
+        return items.stream()
                 .map(item -> item.getProduct().getPrice()
                         .multiply(BigDecimal.valueOf(item.getQuantity())))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
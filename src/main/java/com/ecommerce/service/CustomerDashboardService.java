@@ -1,10 +1,18 @@
 package com.ecommerce.service;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.CustomerDashboardDto;
+import com.ecommerce.dto.CustomerOrderStats;
 import com.ecommerce.dto.DashboardAnalyticsDto;
+import com.ecommerce.dto.OrderExportRow;
+import com.ecommerce.dto.WarrantyExportRow;
 import com.ecommerce.entity.*;
+import com.ecommerce.exception.BadRequestException;
 import com.ecommerce.exception.ResourceNotFoundException;
+import com.ecommerce.export.CsvWriter;
 import com.ecommerce.repository.*;
+import com.ecommerce.search.CustomerSearchService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -12,13 +20,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,43 +43,129 @@ public class CustomerDashboardService {
     private final OrderRepository orderRepository;
     private final WarrantyRepository warrantyRepository;
     private final ProductRepository productRepository;
+    private final CustomerSearchService customerSearchService;
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
 
     /**
-     * Search customers by ID, customer number, name, or email
+     * Search customers by customer number, name, email or phone, one keyset
+     * page at a time
      */
-    public List<CustomerDashboardDto> searchCustomers(String searchTerm) {
-        List<User> customers;
-        
-        // Try to parse as ID first
-        try {
-            Long id = Long.parseLong(searchTerm);
-            Optional<User> user = userRepository.findById(id);
-            customers = user.map(List::of).orElse(Collections.emptyList());
-        } catch (NumberFormatException e) {
-            // Search by name or email
-            customers = userRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
-                searchTerm, searchTerm);
-        }
-        
-        return customers.stream()
-                .filter(u -> u.getRole() == User.Role.CUSTOMER)
+    public CursorPageDto<CustomerDashboardDto> searchCustomers(String searchTerm, String cursor, int size) {
+        CursorPageDto<User> page = customerSearchService.search(searchTerm, cursor, size);
+        return new CursorPageDto<>(page.getItems().stream()
                 .map(this::buildBasicCustomerDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), page.getNextCursor());
     }
 
     /**
-     * Get complete customer dashboard with all details
+     * Get the customer dashboard with the first page of purchase history
+     * and warranties
      */
+    @Timed(value = "dashboard.build", extraTags = {"dashboard", "customer"}, histogram = true)
     public CustomerDashboardDto getCustomerDashboard(Long customerId) {
+        return getCustomerDashboard(customerId, null, null);
+    }
+
+    /**
+     * Get the customer dashboard with the purchase history and warranty
+     * pages starting at the given cursors (null for the first page)
+     */
+    @Timed(value = "dashboard.build", extraTags = {"dashboard", "customer"}, histogram = true)
+    public CustomerDashboardDto getCustomerDashboard(Long customerId, String historyCursor, String warrantyCursor) {
         User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
         
-        return buildFullCustomerDashboard(customer);
+        return buildFullCustomerDashboard(customer,
+                getPurchaseHistory(customerId, historyCursor, DEFAULT_PAGE_SIZE),
+                getWarranties(customerId, warrantyCursor, DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * Get the customer details and purchase summary without any orders or
+     * warranties
+     */
+    public CustomerDashboardDto getCustomerSummary(Long customerId) {
+        User customer = userRepository.findById(customerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
+        
+        return buildFullCustomerDashboard(customer, new CursorPageDto<>(List.of(), null),
+                new CursorPageDto<>(List.of(), null));
+    }
+
+    /**
+     * One page of a customer's orders with their items, newest first
+     */
+    public CursorPageDto<CustomerDashboardDto.PurchaseHistoryDto> getPurchaseHistory(Long customerId,
+                                                                                     String cursor,
+                                                                                     int size) {
+        int limit = pageSize(size);
+        // One extra row tells whether there is a next page
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = orderRepository.findHistoryIdsByUserId(customerId, page);
+        } else {
+            String[] key = decodeCursor(cursor);
+            ids = orderRepository.findHistoryIdsByUserIdBefore(customerId, parseCursor(key[0], LocalDateTime::parse),
+                    parseCursor(key[1], Long::valueOf), page);
+        }
+        boolean hasMore = ids.size() > limit;
+        if (hasMore) {
+            ids = ids.subList(0, limit);
+        }
+        if (ids.isEmpty()) {
+            return new CursorPageDto<>(List.of(), null);
+        }
+        
+        // Orders with items and products in one query, put back in page order
+        Map<Long, Order> orders = orderRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+        List<CustomerDashboardDto.PurchaseHistoryDto> history = ids.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(this::buildPurchaseHistory)
+                .collect(Collectors.toList());
+        
+        CustomerDashboardDto.PurchaseHistoryDto last = history.get(history.size() - 1);
+        return new CursorPageDto<>(history,
+                hasMore ? encodeCursor(last.getPurchaseDateTime().toString(), last.getOrderId()) : null);
+    }
+
+    /**
+     * One page of a customer's warranties, soonest to expire first
+     */
+    public CursorPageDto<CustomerDashboardDto.WarrantyStatusDto> getWarranties(Long customerId,
+                                                                               String cursor,
+                                                                               int size) {
+        int limit = pageSize(size);
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<Warranty> warranties;
+        if (cursor == null || cursor.isBlank()) {
+            warranties = warrantyRepository.findPageByUserId(customerId, page);
+        } else {
+            String[] key = decodeCursor(cursor);
+            warranties = warrantyRepository.findPageByUserIdAfter(customerId, parseCursor(key[0], LocalDate::parse),
+                    parseCursor(key[1], Long::valueOf), page);
+        }
+        boolean hasMore = warranties.size() > limit;
+        if (hasMore) {
+            warranties = warranties.subList(0, limit);
+        }
+        
+        List<CustomerDashboardDto.WarrantyStatusDto> statuses = warranties.stream()
+                .map(this::buildWarrantyStatus)
+                .collect(Collectors.toList());
+        Warranty last = hasMore ? warranties.get(warranties.size() - 1) : null;
+        return new CursorPageDto<>(statuses,
+                last != null ? encodeCursor(last.getWarrantyEndDate().toString(), last.getId()) : null);
     }
 
     /**
      * Get dashboard analytics overview
      */
+    @Timed(value = "dashboard.build", extraTags = {"dashboard", "analytics"}, histogram = true)
     public DashboardAnalyticsDto getDashboardAnalytics() {
         // Count stats
         long totalCustomers = userRepository.countByRole(User.Role.CUSTOMER);
@@ -109,62 +208,96 @@ public class CustomerDashboardService {
     }
 
     /**
-     * Export customer data as CSV
+     * Writes a customer's complete CSV export after the summary. Order lines
+     * and warranties are streamed as projections in one query each, so a
+     * customer with thousands of orders needs neither more heap nor more
+     * statements.
      */
-    public String exportCustomerDataCsv(Long customerId) {
-        CustomerDashboardDto dashboard = getCustomerDashboard(customerId);
-        StringBuilder csv = new StringBuilder();
-        
-        // Header
-        csv.append("Customer Information\n");
-        csv.append("ID,Name,Email,Phone,Address,City,State,Zip,Country,Member Since\n");
-        csv.append(String.format("%d,%s,%s,%s,%s,%s,%s,%s,%s,%s\n",
-                dashboard.getCustomerId(),
-                dashboard.getName(),
-                dashboard.getEmail(),
-                dashboard.getPhone() != null ? dashboard.getPhone() : "",
-                dashboard.getAddress() != null ? dashboard.getAddress() : "",
-                dashboard.getCity() != null ? dashboard.getCity() : "",
-                dashboard.getState() != null ? dashboard.getState() : "",
-                dashboard.getZipCode() != null ? dashboard.getZipCode() : "",
-                dashboard.getCountry() != null ? dashboard.getCountry() : "",
-                dashboard.getMemberSince() != null ? dashboard.getMemberSince().toString() : ""));
-        
-        csv.append("\nPurchase Summary\n");
-        csv.append("Total Orders,Total Spent,Average Order Value\n");
-        csv.append(String.format("%d,%.2f,%.2f\n",
-                dashboard.getTotalOrders(),
-                dashboard.getTotalSpent(),
-                dashboard.getAverageOrderValue()));
+    public void exportCustomerDataCsv(CustomerDashboardDto summary, Writer out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        writeCsvSummary(summary, csv);
         
-        csv.append("\nPurchase History\n");
-        csv.append("Order Number,Date,Product,Quantity,Unit Price,Total,Status\n");
-        for (CustomerDashboardDto.PurchaseHistoryDto order : dashboard.getPurchaseHistory()) {
-            for (CustomerDashboardDto.PurchaseItemDto item : order.getItems()) {
-                csv.append(String.format("%s,%s,%s,%d,%.2f,%.2f,%s\n",
-                        order.getOrderNumber(),
-                        order.getPurchaseDateTime().toString(),
-                        item.getProductName(),
-                        item.getQuantity(),
-                        item.getUnitPrice(),
-                        item.getTotalPrice(),
-                        order.getStatus()));
+        try (Stream<OrderExportRow> lines = orderRepository.streamOrderLinesByUserId(summary.getCustomerId())) {
+            Iterator<OrderExportRow> rows = lines.iterator();
+            while (rows.hasNext()) {
+                OrderExportRow row = rows.next();
+                if (row.getItemId() != null) {
+                    writeCsvOrderLine(csv, row.getOrderNumber(), row.getCreatedAt(), row.getProductName(),
+                            row.getQuantity(), row.getUnitPrice(), row.getTotalPrice(), row.getStatus().name());
+                }
             }
         }
         
-        csv.append("\nWarranties\n");
-        csv.append("Warranty Number,Product,Start Date,End Date,Status,Days Remaining\n");
-        for (CustomerDashboardDto.WarrantyStatusDto warranty : dashboard.getWarranties()) {
-            csv.append(String.format("%s,%s,%s,%s,%s,%d\n",
-                    warranty.getWarrantyNumber(),
-                    warranty.getProductName(),
-                    warranty.getWarrantyStartDate().toString(),
-                    warranty.getWarrantyEndDate().toString(),
-                    warranty.getStatus(),
-                    warranty.getDaysRemaining()));
+        writeCsvWarrantiesHeader(csv);
+        LocalDate today = LocalDate.now();
+        try (Stream<WarrantyExportRow> warranties = warrantyRepository.streamWarrantiesByUserId(summary.getCustomerId())) {
+            Iterator<WarrantyExportRow> rows = warranties.iterator();
+            while (rows.hasNext()) {
+                WarrantyExportRow row = rows.next();
+                long daysRemaining = ChronoUnit.DAYS.between(today, row.getWarrantyEndDate());
+                writeCsvWarrantyLine(csv, row.getWarrantyNumber(), row.getProductName(),
+                        row.getWarrantyStartDate().atStartOfDay(), row.getWarrantyEndDate().atStartOfDay(),
+                        warrantyStatus(row.getStatus(), daysRemaining), Math.max(0, daysRemaining));
+            }
         }
+        csv.flush();
+    }
+
+    // Customer details, purchase summary and the purchase history header
+    private static void writeCsvSummary(CustomerDashboardDto dashboard, CsvWriter csv) throws IOException {
+        csv.line("Customer Information");
+        csv.row("ID", "Name", "Email", "Phone", "Address", "City", "State", "Zip", "Country", "Member Since");
+        csv.field(dashboard.getCustomerId())
+                .field(dashboard.getName())
+                .field(dashboard.getEmail())
+                .field(dashboard.getPhone())
+                .field(dashboard.getAddress())
+                .field(dashboard.getCity())
+                .field(dashboard.getState())
+                .field(dashboard.getZipCode())
+                .field(dashboard.getCountry())
+                .field(dashboard.getMemberSince())
+                .endRow();
+        
+        csv.endRow().line("Purchase Summary");
+        csv.row("Total Orders", "Total Spent", "Average Order Value");
+        csv.field(dashboard.getTotalOrders())
+                .money(dashboard.getTotalSpent())
+                .money(dashboard.getAverageOrderValue())
+                .endRow();
         
-        return csv.toString();
+        csv.endRow().line("Purchase History");
+        csv.row("Order Number", "Date", "Product", "Quantity", "Unit Price", "Total", "Status");
+    }
+
+    private static void writeCsvOrderLine(CsvWriter csv, String orderNumber, LocalDateTime date, String product,
+                                          Integer quantity, BigDecimal unitPrice, BigDecimal total,
+                                          String status) throws IOException {
+        csv.field(orderNumber)
+                .field(date)
+                .field(product)
+                .field(quantity)
+                .money(unitPrice)
+                .money(total)
+                .field(status)
+                .endRow();
+    }
+
+    private static void writeCsvWarrantiesHeader(CsvWriter csv) throws IOException {
+        csv.endRow().line("Warranties");
+        csv.row("Warranty Number", "Product", "Start Date", "End Date", "Status", "Days Remaining");
+    }
+
+    private static void writeCsvWarrantyLine(CsvWriter csv, String warrantyNumber, String product,
+                                             LocalDateTime start, LocalDateTime end, String status,
+                                             Long daysRemaining) throws IOException {
+        csv.field(warrantyNumber)
+                .field(product)
+                .field(start)
+                .field(end)
+                .field(status)
+                .field(daysRemaining)
+                .endRow();
     }
 
     // Private helper methods
@@ -181,31 +314,16 @@ public class CustomerDashboardService {
                 .build();
     }
 
-    private CustomerDashboardDto buildFullCustomerDashboard(User customer) {
-        // Get all orders for this customer
-        List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(customer.getId());
+    private CustomerDashboardDto buildFullCustomerDashboard(
+            User customer,
+            CursorPageDto<CustomerDashboardDto.PurchaseHistoryDto> history,
+            CursorPageDto<CustomerDashboardDto.WarrantyStatusDto> warranties) {
+        // Summary numbers come from one aggregate query, however many orders
+        CustomerOrderStats stats = orderRepository.getCustomerOrderStats(customer.getId());
+        BigDecimal totalSpent = stats.getPaidTotal() != null ? stats.getPaidTotal() : BigDecimal.ZERO;
         
-        // Calculate stats
-        BigDecimal totalSpent = orders.stream()
-                .filter(o -> o.getPaymentStatus() == Order.PaymentStatus.PAID)
-                .map(Order::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal avgOrderValue = orders.isEmpty() ? BigDecimal.ZERO :
-                totalSpent.divide(BigDecimal.valueOf(Math.max(1, orders.size())), 2, RoundingMode.HALF_UP);
-        
-        LocalDateTime lastPurchase = orders.isEmpty() ? null : orders.get(0).getCreatedAt();
-        
-        // Build purchase history
-        List<CustomerDashboardDto.PurchaseHistoryDto> purchaseHistory = orders.stream()
-                .map(this::buildPurchaseHistory)
-                .collect(Collectors.toList());
-        
-        // Get warranties
-        List<Warranty> warranties = warrantyRepository.findByUserIdOrderByWarrantyEndDateAsc(customer.getId());
-        List<CustomerDashboardDto.WarrantyStatusDto> warrantyStatuses = warranties.stream()
-                .map(this::buildWarrantyStatus)
-                .collect(Collectors.toList());
+        BigDecimal avgOrderValue = stats.getOrderCount() == 0 ? BigDecimal.ZERO :
+                totalSpent.divide(BigDecimal.valueOf(stats.getOrderCount()), 2, RoundingMode.HALF_UP);
         
         return CustomerDashboardDto.builder()
                 .customerId(customer.getId())
@@ -220,12 +338,15 @@ public class CustomerDashboardService {
                 .country(customer.getCountry())
                 .memberSince(customer.getCreatedAt())
                 .active(customer.getEnabled())
-                .totalOrders(orders.size())
+                .totalOrders(Math.toIntExact(stats.getOrderCount()))
                 .totalSpent(totalSpent)
                 .averageOrderValue(avgOrderValue)
-                .lastPurchaseDate(lastPurchase)
-                .purchaseHistory(purchaseHistory)
-                .warranties(warrantyStatuses)
+                .lastPurchaseDate(stats.getLastPurchase())
+                .totalWarranties(warrantyRepository.countByUserId(customer.getId()))
+                .purchaseHistory(history.getItems())
+                .purchaseHistoryCursor(history.getNextCursor())
+                .warranties(warranties.getItems())
+                .warrantiesCursor(warranties.getNextCursor())
                 .build();
     }
 
@@ -259,21 +380,8 @@ public class CustomerDashboardService {
         LocalDate endDate = warranty.getWarrantyEndDate();
         long daysRemaining = ChronoUnit.DAYS.between(today, endDate);
         
-        String status;
-        boolean isActive;
-        if (warranty.getStatus() == Warranty.WarrantyStatus.VOIDED) {
-            status = "VOIDED";
-            isActive = false;
-        } else if (daysRemaining < 0) {
-            status = "EXPIRED";
-            isActive = false;
-        } else if (daysRemaining <= 30) {
-            status = "EXPIRING_SOON";
-            isActive = true;
-        } else {
-            status = "ACTIVE";
-            isActive = true;
-        }
+        String status = warrantyStatus(warranty.getStatus(), daysRemaining);
+        boolean isActive = status.equals("ACTIVE") || status.equals("EXPIRING_SOON");
         
         return CustomerDashboardDto.WarrantyStatusDto.builder()
                 .warrantyId(warranty.getId())
@@ -291,6 +399,18 @@ public class CustomerDashboardService {
                 .build();
     }
 
+    // VOIDED, EXPIRED, EXPIRING_SOON (30 days or less left) or ACTIVE
+    private static String warrantyStatus(Warranty.WarrantyStatus status, long daysRemaining) {
+        if (status == Warranty.WarrantyStatus.VOIDED) {
+            return "VOIDED";
+        } else if (daysRemaining < 0) {
+            return "EXPIRED";
+        } else if (daysRemaining <= 30) {
+            return "EXPIRING_SOON";
+        }
+        return "ACTIVE";
+    }
+
     private List<DashboardAnalyticsDto.TopCustomerDto> getTopCustomersByPurchases(int limit) {
         List<User> customers = userRepository.findTopCustomersByOrders(PageRequest.of(0, limit));
         return buildTopCustomerList(customers, "purchases");
@@ -357,5 +477,35 @@ public class CustomerDashboardService {
         
         return alerts;
     }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // Cursors are the sort key and ID of the last row on a page, opaque to clients
+    private static String encodeCursor(String sortKey, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((sortKey + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (key.length == 2) {
+                return key;
+            }
+        } catch (IllegalArgumentException e) {
+            // reported below
+        }
+        throw new BadRequestException("Invalid page cursor");
+    }
+
+    private static <T> T parseCursor(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
 }
 
@@ -8,6 +8,7 @@ import com.ecommerce.entity.Order;
 import com.ecommerce.entity.Warranty;
 import com.ecommerce.repository.OrderRepository;
 import com.ecommerce.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +32,7 @@ public class DashboardService {
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     
+    @Timed(value = "dashboard.build", extraTags = {"dashboard", "admin"}, histogram = true)
     public DashboardDto getDashboardData() {
         return DashboardDto.builder()
                 // Order statistics
@@ -51,7 +53,7 @@ public class DashboardService {
                 .totalProducts(productRepository.count())
                 .activeProducts(productService.countActiveProducts())
                 .outOfStockProducts((long) productService.getOutOfStockProducts().size())
-                .lowStockProducts((long) productService.getLowStockProducts(10).size())
+                .lowStockProducts((long) productService.getLowStockProducts(ProductService.LOW_STOCK_THRESHOLD).size())
                 
                 // Customer statistics
                 .totalCustomers(userService.countCustomers())
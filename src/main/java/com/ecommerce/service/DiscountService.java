@@ -6,6 +6,7 @@ import com.ecommerce.entity.Discount;
 import com.ecommerce.entity.Product;
 import com.ecommerce.exception.BadRequestException;
 import com.ecommerce.exception.ResourceNotFoundException;
+import com.ecommerce.monitoring.jfr.DiscountValidationEvent;
 import com.ecommerce.repository.CategoryRepository;
 import com.ecommerce.repository.DiscountRepository;
 import com.ecommerce.repository.ProductRepository;
@@ -125,20 +126,33 @@ public class DiscountService {
     }
     
     public Discount validateAndGetDiscount(String code, BigDecimal orderTotal) {
-        Discount discount = discountRepository.findByCode(code.toUpperCase())
-                .orElseThrow(() -> new BadRequestException("Invalid discount code"));
-        
-        if (!discount.isCurrentlyValid()) {
-            throw new BadRequestException("Discount code is not valid or has expired");
-        }
-        
-        if (discount.getMinimumOrderAmount() != null && 
-            orderTotal.compareTo(discount.getMinimumOrderAmount()) < 0) {
-            throw new BadRequestException("Minimum order amount of $" + 
-                    discount.getMinimumOrderAmount() + " required for this discount");
+        DiscountValidationEvent event = new DiscountValidationEvent();
+        event.begin();
+        boolean valid = false;
+        try {
+            Discount discount = discountRepository.findByCode(code.toUpperCase())
+                    .orElseThrow(() -> new BadRequestException("Invalid discount code"));
+            
+            if (!discount.isCurrentlyValid()) {
+                throw new BadRequestException("Discount code is not valid or has expired");
+            }
+            
+            if (discount.getMinimumOrderAmount() != null && 
+                orderTotal.compareTo(discount.getMinimumOrderAmount()) < 0) {
+                throw new BadRequestException("Minimum order amount of $" + 
+                        discount.getMinimumOrderAmount() + " required for this discount");
+            }
+            
+            valid = true;
+            return discount;
+        } finally {
+            if (event.shouldCommit()) {
+                event.code = code;
+                event.orderTotal = orderTotal.doubleValue();
+                event.valid = valid;
+                event.commit();
+            }
         }
-        
-        return discount;
     }
     
     public BigDecimal calculateDiscount(String code, BigDecimal orderTotal) {
@@ -0,0 +1,135 @@
+package com.ecommerce.service;
+
+import com.ecommerce.exception.BadRequestException;
+import com.ecommerce.monitoring.jfr.CartOperationEvent;
+import com.ecommerce.monitoring.jfr.CheckoutEvent;
+import com.ecommerce.monitoring.jfr.CheckoutStageEvent;
+import com.ecommerce.monitoring.jfr.DashboardBuildEvent;
+import com.ecommerce.monitoring.jfr.DiscountValidationEvent;
+import com.ecommerce.monitoring.jfr.FlightRecorderProperties;
+import com.ecommerce.monitoring.jfr.JwtAuthenticationEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a continuous flight recording in a ring buffer when jfr.enabled is
+ * set, and dumps it on demand so a slow period can be examined after the fact.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecordingService {
+
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+            CheckoutEvent.class, CheckoutStageEvent.class, DiscountValidationEvent.class,
+            JwtAuthenticationEvent.class, CartOperationEvent.class, DashboardBuildEvent.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final FlightRecorderProperties properties;
+
+    private Recording recording;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot load JFR settings '" + properties.getSettings() + "'", e);
+        }
+        recording.setName("ecommerce-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(properties.getMaxAgeMinutes()));
+        recording.setMaxSize(properties.getMaxSizeMb() * 1024 * 1024);
+        for (Class<? extends Event> eventClass : APPLICATION_EVENTS) {
+            recording.enable(eventClass).withThreshold(Duration.ofMillis(properties.getEventThresholdMs()));
+        }
+        recording.start();
+        log.info("Continuous flight recording started ({} settings, {} min / {} MB ring buffer)",
+                properties.getSettings(), properties.getMaxAgeMinutes(), properties.getMaxSizeMb());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", isRunning());
+        if (recording != null) {
+            status.put("settings", properties.getSettings());
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAgeMinutes", properties.getMaxAgeMinutes());
+            status.put("maxSizeMb", properties.getMaxSizeMb());
+            status.put("sizeBytes", recording.getSize());
+        }
+        return status;
+    }
+
+    /**
+     * Writes the current ring buffer to a new file in the dump directory,
+     * keeping only the newest jfr.max-dumps files there.
+     */
+    public Path dump() {
+        if (!isRunning()) {
+            throw new BadRequestException("Continuous recording is not running; start with the jfr profile");
+        }
+        try {
+            Path directory = Paths.get(properties.getDumpDirectory());
+            Files.createDirectories(directory);
+            Path file = directory.resolve("ecommerce-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr")
+                    .toAbsolutePath();
+            recording.dump(file);
+            log.info("Flight recording dumped to {}", file);
+            deleteOldDumps(directory);
+            return file;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not dump flight recording", e);
+        }
+    }
+
+    // Dump names sort by time. A dump still being downloaded stays readable
+    // after its file is deleted.
+    private synchronized void deleteOldDumps(Path directory) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files.filter(file -> file.getFileName().toString().matches("ecommerce-.*\\.jfr"))
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .collect(Collectors.toList());
+        }
+        for (Path old : dumps.subList(Math.min(dumps.size(), Math.max(1, properties.getMaxDumps())), dumps.size())) {
+            Files.deleteIfExists(old);
+            log.info("Deleted old flight recording {}", old);
+        }
+    }
+
+        private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.CartItemDto;
+import com.ecommerce.dto.GuestCartDto;
+import com.ecommerce.entity.Product;
+import com.ecommerce.exception.BadRequestException;
+import com.ecommerce.security.GuestCartTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cart for anonymous shoppers. The cart state is carried in a signed
+ * client-side token, so browsing and editing it never writes to the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GuestCartService {
+
+    private static final int MAX_LINES = 50;
+
+    private final GuestCartTokenProvider tokenProvider;
+    private final ProductService productService;
+
+    public GuestCartDto getCart(String token) {
+        return buildCart(tokenProvider.parseToken(token));
+    }
+
+    public Map<Long, Integer> getItems(String token) {
+        return tokenProvider.parseToken(token);
+    }
+
+    public GuestCartDto addToCart(String token, Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new BadRequestException("Quantity must be positive");
+        }
+
+        Map<Long, Integer> items = tokenProvider.parseToken(token);
+        Product product = productService.findById(productId);
+
+        if (!product.getActive()) {
+            throw new BadRequestException("Product is not available");
+        }
+
+        int newQuantity = items.getOrDefault(productId, 0) + quantity;
+        if (product.getStockQuantity() < newQuantity) {
+            throw new BadRequestException("Insufficient stock. Available: " + product.getStockQuantity());
+        }
+        if (!items.containsKey(productId) && items.size() >= MAX_LINES) {
+            throw new BadRequestException("Cart cannot hold more than " + MAX_LINES + " products");
+        }
+
+        items.put(productId, newQuantity);
+        return buildCart(items);
+    }
+
+    public GuestCartDto updateCartItem(String token, Long productId, int quantity) {
+        Map<Long, Integer> items = tokenProvider.parseToken(token);
+        if (!items.containsKey(productId)) {
+            throw new BadRequestException("Item not found in cart");
+        }
+
+        if (quantity <= 0) {
+            items.remove(productId);
+        } else {
+            Product product = productService.findById(productId);
+            if (product.getStockQuantity() < quantity) {
+                throw new BadRequestException("Insufficient stock. Available: " + product.getStockQuantity());
+            }
+            items.put(productId, quantity);
+        }
+        return buildCart(items);
+    }
+
+    public GuestCartDto removeFromCart(String token, Long productId) {
+        Map<Long, Integer> items = tokenProvider.parseToken(token);
+        items.remove(productId);
+        return buildCart(items);
+    }
+
+    // Prices the cart from current product data; lines for products that
+    // disappeared or were deactivated are dropped from the returned token
+    private GuestCartDto buildCart(Map<Long, Integer> items) {
+        Map<Long, Product> products = productService.findAllByIds(items.keySet());
+
+        List<CartItemDto> lines = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        int itemCount = 0;
+        for (Map.Entry<Long, Integer> entry : new ArrayList<>(items.entrySet())) {
+            Product product = products.get(entry.getKey());
+            if (product == null || !product.getActive()) {
+                items.remove(entry.getKey());
+                continue;
+            }
+            CartItemDto line = CartItemDto.fromProduct(product, entry.getValue());
+            lines.add(line);
+            total = total.add(line.getTotalPrice());
+            itemCount += entry.getValue();
+        }
+
+        return GuestCartDto.builder()
+                .token(tokenProvider.generateToken(items))
+                .items(lines)
+                .total(total)
+                .itemCount(itemCount)
+                .build();
+    }
+}
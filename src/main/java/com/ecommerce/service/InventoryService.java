@@ -5,6 +5,7 @@ import com.ecommerce.entity.ItemCategory;
 import com.ecommerce.exception.ResourceNotFoundException;
 import com.ecommerce.repository.InventoryItemRepository;
 import com.ecommerce.repository.ItemCategoryRepository;
+import com.ecommerce.search.SerialRegistryIndexer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +25,7 @@ public class InventoryService {
 
     private final InventoryItemRepository itemRepository;
     private final ItemCategoryRepository categoryRepository;
+    private final SerialRegistryIndexer serialRegistryIndexer;
 
     // ============ Category Operations ============
 
@@ -59,12 +61,23 @@ public class InventoryService {
 
     public void deleteCategory(Long id) {
         ItemCategory category = getCategoryById(id);
-        if (!category.getItems().isEmpty()) {
+        if (itemRepository.countByCategoryId(id) > 0) {
             throw new IllegalArgumentException("Cannot delete category with existing items");
         }
         categoryRepository.delete(category);
     }
 
+    /**
+     * Number of items in each category, keyed by category ID
+     */
+    public Map<Long, Long> getItemCountsByCategory() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : itemRepository.countItemsPerCategory()) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     // ============ Inventory Item Operations ============
 
     public Page<InventoryItem> getAllItems(Pageable pageable) {
@@ -117,7 +130,9 @@ public class InventoryService {
             }
         }
         
-        return itemRepository.save(item);
+        InventoryItem saved = itemRepository.save(item);
+        serialRegistryIndexer.register(saved);
+        return saved;
     }
 
     public InventoryItem updateItem(Long id, InventoryItem updated) {
@@ -156,11 +171,14 @@ public class InventoryService {
         item.setStatus(updated.getStatus());
         item.setNotes(updated.getNotes());
         
-        return itemRepository.save(item);
+        InventoryItem saved = itemRepository.save(item);
+        serialRegistryIndexer.register(saved);
+        return saved;
     }
 
     public void deleteItem(Long id) {
         InventoryItem item = getItemById(id);
+        serialRegistryIndexer.unregister(item);
         itemRepository.delete(item);
     }
 
@@ -214,9 +232,10 @@ public class InventoryService {
         
         // Category-wise counts
         List<ItemCategory> categories = categoryRepository.findAllOrderByDisplayOrder();
+        Map<Long, Long> itemCounts = getItemCountsByCategory();
         Map<String, Long> categoryWiseCounts = new HashMap<>();
         for (ItemCategory category : categories) {
-            categoryWiseCounts.put(category.getName(), itemRepository.countByCategoryId(category.getId()));
+            categoryWiseCounts.put(category.getName(), itemCounts.getOrDefault(category.getId(), 0L));
         }
         stats.put("categoryWiseCounts", categoryWiseCounts);
         stats.put("categories", categories);
@@ -1,13 +1,24 @@
 package com.ecommerce.service;
 
+import com.ecommerce.dto.BulkCancelResultDto;
 import com.ecommerce.dto.CartItemDto;
 import com.ecommerce.dto.CheckoutRequest;
 import com.ecommerce.dto.OrderDto;
+import com.ecommerce.dto.OrderTrackingBatchRequest;
+import com.ecommerce.dto.OrderTrackingBatchResult;
 import com.ecommerce.entity.*;
+import com.ecommerce.event.AdminEvent;
 import com.ecommerce.exception.BadRequestException;
 import com.ecommerce.exception.ResourceNotFoundException;
+import com.ecommerce.monitoring.CheckoutMetrics;
 import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.OrderTrackingJdbcRepository;
+import com.ecommerce.repository.OrderTrackingJdbcRepository.TrackingUpdate;
+import com.ecommerce.search.AdminSearchIndexer;
+import com.ecommerce.search.SearchEntityType;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,9 +26,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,20 +49,34 @@ import java.util.stream.Collectors;
 @Transactional
 public class OrderService {
     
+    private static final Set<Order.OrderStatus> CANCELLABLE_STATUSES = EnumSet.complementOf(EnumSet.of(
+            Order.OrderStatus.SHIPPED, Order.OrderStatus.DELIVERED, Order.OrderStatus.CANCELLED));
+    private static final int MAX_BULK_CANCEL = 500;
+    private static final int MAX_BULK_TRACKING = 1000;
+    
     private final OrderRepository orderRepository;
     private final CartService cartService;
     private final ProductService productService;
     private final UserService userService;
     private final DiscountService discountService;
     private final WarrantyService warrantyService;
+    private final OrderTrackingJdbcRepository orderTrackingJdbcRepository;
+    private final AdminSearchIndexer adminSearchIndexer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CheckoutMetrics checkoutMetrics;
     
+    @Timed(value = "checkout", description = "Time to place an order", histogram = true)
     public OrderDto createOrder(Long userId, CheckoutRequest request) {
+        CheckoutMetrics.Stages stages = checkoutMetrics.start(userId);
         User user = userService.findById(userId);
         List<CartItemDto> cartItems = cartService.getCartItems(userId);
         
         if (cartItems.isEmpty()) {
+            checkoutMetrics.checkoutFailed("empty_cart");
             throw new BadRequestException("Cart is empty");
         }
+        stages.itemCount(cartItems.size());
+        stages.mark("cart_load");
         
         // Create order
         Order order = Order.builder()
@@ -65,6 +102,7 @@ public class OrderService {
             
             // Validate stock
             if (product.getStockQuantity() < cartItem.getQuantity()) {
+                checkoutMetrics.checkoutFailed("insufficient_stock");
                 throw new BadRequestException("Insufficient stock for: " + product.getName());
             }
             
@@ -82,12 +120,15 @@ public class OrderService {
             order.addItem(orderItem);
             subtotal = subtotal.add(orderItem.getTotalPrice());
             
-            // Reduce stock
-            productService.reduceStock(product.getId(), cartItem.getQuantity());
-            productService.incrementSoldCount(product.getId(), cartItem.getQuantity());
+            // Reduce stock; the check above may have read a cached product
+            if (!productService.reduceStock(product.getId(), cartItem.getQuantity())) {
+                checkoutMetrics.checkoutFailed("insufficient_stock");
+                throw new BadRequestException("Insufficient stock for: " + product.getName());
+            }
         }
         
         order.setSubtotal(subtotal);
+        stages.mark("stock");
         
         // Apply discount if provided
         BigDecimal discountAmount = BigDecimal.ZERO;
@@ -97,10 +138,13 @@ public class OrderService {
                 discountAmount = discount.calculateDiscount(subtotal);
                 order.setAppliedDiscount(discount);
                 discountService.incrementUsage(discount.getId());
+                checkoutMetrics.discountApplied();
             } catch (Exception e) {
                 // Discount not valid, continue without it
+                checkoutMetrics.discountRejected();
             }
         }
+        stages.mark("discount");
         
         order.setDiscountAmount(discountAmount);
         order.setTaxAmount(BigDecimal.ZERO); // Can be calculated based on region
@@ -114,11 +158,25 @@ public class OrderService {
         
         // Clear cart
         cartService.clearCart(userId);
+        stages.orderId(savedOrder.getId());
+        stages.mark("save");
         
         // Create warranties for products
         for (OrderItem item : savedOrder.getItems()) {
             warrantyService.createWarranty(savedOrder, item);
         }
+        stages.mark("warranties");
+        stages.finish();
+        checkoutMetrics.orderPlaced(savedOrder.getTotalAmount(), savedOrder.getItems().size());
+        
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("orderId", savedOrder.getId());
+        event.put("orderNumber", savedOrder.getOrderNumber());
+        event.put("userName", user.getName());
+        event.put("totalAmount", savedOrder.getTotalAmount());
+        event.put("status", savedOrder.getStatus());
+        event.put("createdAt", savedOrder.getCreatedAt());
+        eventPublisher.publishEvent(AdminEvent.of(AdminEvent.Type.ORDER_CREATED, event));
         
         return OrderDto.fromEntity(savedOrder);
     }
@@ -131,7 +189,9 @@ public class OrderService {
     
     @Transactional(readOnly = true)
     public OrderDto getOrderById(Long id) {
-        return OrderDto.fromEntity(findById(id));
+        Order order = orderRepository.findDetailedById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
+        return OrderDto.fromEntity(order);
     }
     
     @Transactional(readOnly = true)
@@ -186,6 +246,7 @@ public class OrderService {
     
     public OrderDto updatePaymentStatus(Long orderId, Order.PaymentStatus status, String transactionId) {
         Order order = findById(orderId);
+        Order.OrderStatus previousStatus = order.getStatus();
         order.setPaymentStatus(status);
         order.setPaymentTransactionId(transactionId);
         
@@ -193,6 +254,14 @@ public class OrderService {
             order.setStatus(Order.OrderStatus.CONFIRMED);
         }
         
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("orderId", order.getId());
+        event.put("orderNumber", order.getOrderNumber());
+        event.put("paymentStatus", status);
+        event.put("previousStatus", previousStatus);
+        event.put("status", order.getStatus());
+        eventPublisher.publishEvent(AdminEvent.of(AdminEvent.Type.PAYMENT_STATUS, event));
+        
         return OrderDto.fromEntity(orderRepository.save(order));
     }
     
@@ -205,6 +274,144 @@ public class OrderService {
         return OrderDto.fromEntity(orderRepository.save(order));
     }
     
+    /**
+     * Applies warehouse status/tracking updates with one JDBC batch per key
+     * type and reports an outcome per row, without loading the orders.
+     */
+    public OrderTrackingBatchResult updateTrackingBatch(OrderTrackingBatchRequest request) {
+        List<OrderTrackingBatchRequest.Row> rows = request.getUpdates();
+        if (rows.size() > MAX_BULK_TRACKING) {
+            throw new BadRequestException("At most " + MAX_BULK_TRACKING + " orders can be updated at once");
+        }
+        
+        OrderTrackingBatchResult.RowResult[] results = new OrderTrackingBatchResult.RowResult[rows.size()];
+        List<TrackingUpdate> byId = new ArrayList<>();
+        List<Integer> byIdRows = new ArrayList<>();
+        List<TrackingUpdate> byNumber = new ArrayList<>();
+        List<Integer> byNumberRows = new ArrayList<>();
+        
+        for (int i = 0; i < rows.size(); i++) {
+            OrderTrackingBatchRequest.Row row = rows.get(i);
+            try {
+                TrackingUpdate update = toTrackingUpdate(row);
+                if (update.getOrderId() != null) {
+                    byId.add(update);
+                    byIdRows.add(i);
+                } else {
+                    byNumber.add(update);
+                    byNumberRows.add(i);
+                }
+            } catch (BadRequestException e) {
+                results[i] = new OrderTrackingBatchResult.RowResult(i + 1, rowKey(row),
+                        OrderTrackingBatchResult.Outcome.INVALID, e.getMessage());
+            }
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        collectOutcomes(orderTrackingJdbcRepository.updateById(byId, now), byIdRows, rows, results);
+        collectOutcomes(orderTrackingJdbcRepository.updateByOrderNumber(byNumber, now), byNumberRows, rows, results);
+        markSkipped(rows, results);
+        adminSearchIndexer.markChanged(SearchEntityType.ORDER,
+                byId.stream().map(TrackingUpdate::getOrderId).collect(Collectors.toList()));
+        adminSearchIndexer.markOrdersChanged(
+                byNumber.stream().map(TrackingUpdate::getOrderNumber).collect(Collectors.toList()));
+        
+        OrderTrackingBatchResult result = OrderTrackingBatchResult.builder()
+                .results(Arrays.asList(results))
+                .build();
+        for (OrderTrackingBatchResult.RowResult rowResult : results) {
+            switch (rowResult.getResult()) {
+                case UPDATED -> result.setUpdated(result.getUpdated() + 1);
+                case NOT_FOUND -> result.setNotFound(result.getNotFound() + 1);
+                case SKIPPED -> result.setSkipped(result.getSkipped() + 1);
+                case INVALID -> result.setInvalid(result.getInvalid() + 1);
+            }
+        }
+        return result;
+    }
+    
+    private TrackingUpdate toTrackingUpdate(OrderTrackingBatchRequest.Row row) {
+        if (row.getOrderId() == null && (row.getOrderNumber() == null || row.getOrderNumber().isBlank())) {
+            throw new BadRequestException("Order ID or order number is required");
+        }
+        if (row.getStatus() == null && row.getTrackingNumber() == null
+                && row.getCarrier() == null && row.getEstimatedDelivery() == null) {
+            throw new BadRequestException("Nothing to update");
+        }
+        
+        Order.OrderStatus status = null;
+        if (row.getStatus() != null) {
+            try {
+                status = Order.OrderStatus.valueOf(row.getStatus().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown status: " + row.getStatus());
+            }
+            // Cancelling restores stock and voids warranties, which a status write would skip
+            if (status == Order.OrderStatus.CANCELLED) {
+                throw new BadRequestException("Orders are cancelled through the cancel endpoint");
+            }
+        } else if (row.getTrackingNumber() != null) {
+            // Same as the single-order tracking update
+            status = Order.OrderStatus.SHIPPED;
+        }
+        
+        LocalDateTime estimatedDelivery = null;
+        if (row.getEstimatedDelivery() != null) {
+            try {
+                estimatedDelivery = LocalDateTime.parse(row.getEstimatedDelivery().trim());
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException("Invalid estimated delivery: " + row.getEstimatedDelivery());
+            }
+        }
+        
+        return new TrackingUpdate(row.getOrderId(), row.getOrderNumber() != null ? row.getOrderNumber().trim() : null,
+                status, row.getTrackingNumber(), row.getCarrier(), estimatedDelivery);
+    }
+    
+    private void collectOutcomes(int[] counts, List<Integer> rowIndexes,
+                                 List<OrderTrackingBatchRequest.Row> rows,
+                                 OrderTrackingBatchResult.RowResult[] results) {
+        for (int i = 0; i < counts.length; i++) {
+            int index = rowIndexes.get(i);
+            // Drivers may report SUCCESS_NO_INFO (-2) instead of a row count
+            boolean updated = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+            results[index] = new OrderTrackingBatchResult.RowResult(index + 1, rowKey(rows.get(index)),
+                    updated ? OrderTrackingBatchResult.Outcome.UPDATED : OrderTrackingBatchResult.Outcome.NOT_FOUND,
+                    null);
+        }
+    }
+    
+    // Rows the UPDATE left alone name either no order or a cancelled or delivered one
+    private void markSkipped(List<OrderTrackingBatchRequest.Row> rows,
+                             OrderTrackingBatchResult.RowResult[] results) {
+        List<Long> ids = new ArrayList<>();
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i].getResult() == OrderTrackingBatchResult.Outcome.NOT_FOUND) {
+                if (rows.get(i).getOrderId() != null) {
+                    ids.add(rows.get(i).getOrderId());
+                } else {
+                    numbers.add(rows.get(i).getOrderNumber().trim());
+                }
+            }
+        }
+        Set<Long> existingIds = orderTrackingJdbcRepository.findExistingIds(ids);
+        Set<String> existingNumbers = orderTrackingJdbcRepository.findExistingOrderNumbers(numbers);
+        for (int i = 0; i < results.length; i++) {
+            OrderTrackingBatchRequest.Row row = rows.get(i);
+            if (results[i].getResult() == OrderTrackingBatchResult.Outcome.NOT_FOUND
+                    && (row.getOrderId() != null ? existingIds.contains(row.getOrderId())
+                            : existingNumbers.contains(row.getOrderNumber().trim()))) {
+                results[i].setResult(OrderTrackingBatchResult.Outcome.SKIPPED);
+                results[i].setMessage("Order is cancelled or delivered");
+            }
+        }
+    }
+    
+    private String rowKey(OrderTrackingBatchRequest.Row row) {
+        return row.getOrderId() != null ? String.valueOf(row.getOrderId()) : row.getOrderNumber();
+    }
+    
     public OrderDto cancelOrder(Long orderId) {
         Order order = findById(orderId);
         
@@ -212,18 +419,83 @@ public class OrderService {
             order.getStatus() == Order.OrderStatus.DELIVERED) {
             throw new BadRequestException("Cannot cancel shipped or delivered orders");
         }
+        if (order.getStatus() == Order.OrderStatus.CANCELLED) {
+            throw new BadRequestException("Order is already cancelled");
+        }
         
-        // Restore stock
-        for (OrderItem item : order.getItems()) {
-            productService.increaseStock(item.getProduct().getId(), item.getQuantity());
+        if (cancelEligibleOrders(List.of(orderId)).isEmpty()) {
+            throw new BadRequestException("Order was updated concurrently, please retry");
         }
         
-        order.setStatus(Order.OrderStatus.CANCELLED);
+        // The bulk updates cleared the persistence context, so reload
+        return OrderDto.fromEntity(findById(orderId));
+    }
+    
+    /**
+     * Cancels every order in the list that can still be cancelled, restoring
+     * stock and voiding warranties with a fixed number of statements.
+     */
+    public BulkCancelResultDto cancelOrders(List<Long> orderIds) {
+        Set<Long> requested = new LinkedHashSet<>(orderIds);
+        if (requested.size() > MAX_BULK_CANCEL) {
+            throw new BadRequestException("At most " + MAX_BULK_CANCEL + " orders can be cancelled at once");
+        }
         
-        // Void warranties
-        warrantyService.voidWarrantiesByOrder(orderId);
+        List<Long> cancelled = cancelEligibleOrders(requested);
+        Set<Long> cancelledIds = new HashSet<>(cancelled);
+        List<Long> skippedIds = requested.stream()
+                .filter(id -> !cancelledIds.contains(id))
+                .collect(Collectors.toList());
         
-        return OrderDto.fromEntity(orderRepository.save(order));
+        Map<Long, Order.OrderStatus> statuses = new HashMap<>();
+        if (!skippedIds.isEmpty()) {
+            for (Object[] row : orderRepository.findStatusesByIdIn(skippedIds)) {
+                statuses.put((Long) row[0], (Order.OrderStatus) row[1]);
+            }
+        }
+        List<BulkCancelResultDto.SkippedOrder> skipped = skippedIds.stream()
+                .map(id -> new BulkCancelResultDto.SkippedOrder(id, skipReason(statuses.get(id))))
+                .collect(Collectors.toList());
+        
+        return BulkCancelResultDto.builder()
+                .requested(requested.size())
+                .cancelled(cancelled)
+                .skipped(skipped)
+                .build();
+    }
+    
+    private static String skipReason(Order.OrderStatus status) {
+        if (status == null) {
+            return "Order not found";
+        }
+        return switch (status) {
+            case SHIPPED, DELIVERED -> "Cannot cancel shipped or delivered orders";
+            case CANCELLED -> "Order is already cancelled";
+            default -> "Order was updated concurrently, please retry";
+        };
+    }
+    
+    // Locks the cancellable orders, then restores stock, voids warranties and
+    // flips the status with one set-based statement each
+    private List<Long> cancelEligibleOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> eligible = orderRepository.lockIdsByIdInAndStatusIn(orderIds, CANCELLABLE_STATUSES);
+        if (eligible.isEmpty()) {
+            return eligible;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        productService.restoreStockForOrders(eligible);
+        warrantyService.voidWarrantiesByOrders(eligible);
+        orderRepository.updateStatusByIdIn(eligible, Order.OrderStatus.CANCELLED, now);
+        adminSearchIndexer.markChanged(SearchEntityType.ORDER, eligible);
+        
+        eventPublisher.publishEvent(AdminEvent.of(AdminEvent.Type.ORDER_CANCELLED,
+                Map.of("orderIds", eligible, "count", eligible.size())));
+        return eligible;
     }
     
     @Transactional(readOnly = true)
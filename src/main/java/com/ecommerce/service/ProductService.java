@@ -3,11 +3,17 @@ package com.ecommerce.service;
 import com.ecommerce.dto.ProductDto;
 import com.ecommerce.entity.Category;
 import com.ecommerce.entity.Product;
+import com.ecommerce.event.AdminEvent;
 import com.ecommerce.exception.BadRequestException;
 import com.ecommerce.exception.ResourceNotFoundException;
 import com.ecommerce.repository.CategoryRepository;
 import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.repository.ProductStockJdbcRepository;
+import com.ecommerce.repository.ProductStockJdbcRepository.StockLevel;
+import com.ecommerce.search.SerialRegistryIndexer;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,7 +21,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,8 +33,13 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProductService {
     
+    public static final int LOW_STOCK_THRESHOLD = 10;
+    
     private final ProductRepository productRepository;
+    private final ProductStockJdbcRepository productStockRepository;
     private final CategoryRepository categoryRepository;
+    private final SerialRegistryIndexer serialRegistryIndexer;
+    private final ApplicationEventPublisher eventPublisher;
     
     public ProductDto createProduct(ProductDto dto) {
         if (productRepository.existsBySku(dto.getSku())) {
@@ -54,7 +69,9 @@ public class ProductService {
             product.setCategory(category);
         }
         
-        return ProductDto.fromEntity(productRepository.save(product));
+        Product saved = productRepository.save(product);
+        serialRegistryIndexer.register(saved);
+        return ProductDto.fromEntity(saved);
     }
     
     public List<ProductDto> createProductsBulk(List<ProductDto> products) {
@@ -69,6 +86,13 @@ public class ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
     }
     
+    @Transactional(readOnly = true)
+    public Map<Long, Product> findAllByIds(Collection<Long> ids) {
+        return productRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+    
     @Transactional(readOnly = true)
     public ProductDto getProductById(Long id) {
         return ProductDto.fromEntity(findById(id));
@@ -87,12 +111,14 @@ public class ProductService {
     }
     
     @Transactional(readOnly = true)
+    @Timed(value = "catalog.search", extraTags = {"type", "text"}, histogram = true)
     public Page<ProductDto> searchProducts(String search, Pageable pageable) {
         return productRepository.searchProducts(search, pageable)
                 .map(ProductDto::fromEntity);
     }
     
     @Transactional(readOnly = true)
+    @Timed(value = "catalog.search", extraTags = {"type", "filters"}, histogram = true)
     public Page<ProductDto> getProductsByFilters(String brand, String color, Long categoryId,
                                                   BigDecimal minPrice, BigDecimal maxPrice,
                                                   Pageable pageable) {
@@ -191,10 +217,34 @@ public class ProductService {
         productRepository.save(product);
     }
     
-    public void reduceStock(Long productId, int quantity) {
-        Product product = findById(productId);
-        product.reduceStock(quantity);
-        productRepository.save(product);
+    /**
+     * Takes the quantity from the product's stock and adds it to its sold
+     * count in one conditional UPDATE. Returns false, changing nothing, when
+     * the stock has run too low.
+     */
+    public boolean reduceStock(Long productId, int quantity) {
+        StockLevel level = productStockRepository.reduceStock(productId, quantity);
+        if (level == null) {
+            return false;
+        }
+        
+        // Notify admin consoles only when the product crosses into low stock
+        // or sells out, not on every sale below the threshold
+        int stock = level.getStockQuantity();
+        int previousStock = stock + quantity;
+        boolean becameLowStock = previousStock > LOW_STOCK_THRESHOLD && stock <= LOW_STOCK_THRESHOLD;
+        boolean soldOut = previousStock > 0 && stock == 0;
+        if (becameLowStock || soldOut) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("productId", level.getProductId());
+            event.put("name", level.getName());
+            event.put("sku", level.getSku());
+            event.put("stockQuantity", stock);
+            event.put("becameLowStock", becameLowStock);
+            event.put("outOfStock", stock == 0);
+            eventPublisher.publishEvent(AdminEvent.of(AdminEvent.Type.LOW_STOCK, event));
+        }
+        return true;
     }
     
     public void increaseStock(Long productId, int quantity) {
@@ -203,10 +253,9 @@ public class ProductService {
         productRepository.save(product);
     }
     
-    public void incrementSoldCount(Long productId, int quantity) {
-        Product product = findById(productId);
-        product.setSoldCount(product.getSoldCount() + quantity);
-        productRepository.save(product);
+    // Restores stock for all lines of the given orders with a single UPDATE
+    public int restoreStockForOrders(Collection<Long> orderIds) {
+        return productRepository.restoreStockForOrders(orderIds);
     }
     
     public void deleteProduct(Long id) {
@@ -0,0 +1,79 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.SerialLookupDto;
+import com.ecommerce.dto.WarrantyDto;
+import com.ecommerce.entity.SerialRegistration.RecordType;
+import com.ecommerce.exception.BadRequestException;
+import com.ecommerce.repository.InventoryItemRepository;
+import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.repository.SerialRegistryJdbcRepository;
+import com.ecommerce.repository.SerialRegistryJdbcRepository.RecordRef;
+import com.ecommerce.repository.WarrantyRepository;
+import com.ecommerce.search.SearchKeys;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service desk lookup of a serial number: the products, warranties and
+ * inventory items carrying it, found through serial_registry in one probe
+ * and loaded by id.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SerialLookupService {
+
+    // A product serial is copied to the warranty of every unit sold
+    static final int MAX_WARRANTIES = 50;
+
+    private final SerialRegistryJdbcRepository registryRepository;
+    private final ProductRepository productRepository;
+    private final WarrantyRepository warrantyRepository;
+    private final InventoryItemRepository itemRepository;
+
+    @Timed(value = "serial.lookup", histogram = true)
+    public SerialLookupDto lookup(String serialNumber) {
+        String serialKey = SearchKeys.compactKey(serialNumber);
+        if (serialKey.isEmpty()) {
+            throw new BadRequestException("Serial number is required");
+        }
+
+        Map<RecordType, List<Long>> ids = new EnumMap<>(RecordType.class);
+        for (RecordRef ref : registryRepository.findBySerialNumber(serialNumber)) {
+            ids.computeIfAbsent(ref.getType(), type -> new ArrayList<>()).add(ref.getId());
+        }
+        List<Long> productIds = ids.getOrDefault(RecordType.PRODUCT, List.of());
+        List<Long> warrantyIds = ids.getOrDefault(RecordType.WARRANTY, List.of());
+        List<Long> itemIds = ids.getOrDefault(RecordType.INVENTORY_ITEM, List.of());
+
+        // Registrations are rechecked against the rows, which SQL may have changed since
+        List<WarrantyDto> warranties = warrantyIds.isEmpty() ? List.of()
+                : warrantyRepository.findByIdInOrderByIdDesc(
+                                warrantyIds.subList(0, Math.min(warrantyIds.size(), MAX_WARRANTIES))).stream()
+                        .filter(warranty -> SearchKeys.compactKey(warranty.getSerialNumber()).equals(serialKey))
+                        .map(WarrantyDto::fromEntity)
+                        .collect(Collectors.toList());
+
+        return SerialLookupDto.builder()
+                .serialNumber(serialNumber.trim())
+                .products(productRepository.findAllById(productIds).stream()
+                        .filter(product -> SearchKeys.compactKey(product.getSerialNumber()).equals(serialKey))
+                        .map(SerialLookupDto.ProductRefDto::fromEntity)
+                        .collect(Collectors.toList()))
+                .warranties(warranties)
+                .warrantyCount(warrantyIds.size())
+                .inventoryItems(itemRepository.findAllById(itemIds).stream()
+                        .filter(item -> SearchKeys.compactKey(item.getSerialNumber()).equals(serialKey))
+                        .map(SerialLookupDto.InventoryItemRefDto::fromEntity)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -1,11 +1,15 @@
 package com.ecommerce.service;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.UserDto;
 import com.ecommerce.dto.auth.RegisterRequest;
 import com.ecommerce.entity.User;
 import com.ecommerce.exception.BadRequestException;
 import com.ecommerce.exception.ResourceNotFoundException;
 import com.ecommerce.repository.UserRepository;
+import com.ecommerce.search.CustomerSearchIndexer;
+import com.ecommerce.search.CustomerSearchService;
+import com.ecommerce.security.JwtPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +29,9 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JwtPrincipalCache jwtPrincipalCache;
+    private final CustomerSearchService customerSearchService;
+    private final CustomerSearchIndexer customerSearchIndexer;
     
     public User createUser(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -44,7 +51,9 @@ public class UserService {
                 .role(User.Role.CUSTOMER)
                 .build();
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        customerSearchIndexer.index(saved);
+        return saved;
     }
     
     public User createAdmin(RegisterRequest request) {
@@ -60,7 +69,9 @@ public class UserService {
                 .role(User.Role.ADMIN)
                 .build();
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        customerSearchIndexer.index(saved);
+        return saved;
     }
     
     @Transactional(readOnly = true)
@@ -82,9 +93,10 @@ public class UserService {
     }
     
     @Transactional(readOnly = true)
-    public Page<UserDto> searchCustomers(String search, Pageable pageable) {
-        return userRepository.searchCustomers(search, pageable)
-                .map(UserDto::fromEntity);
+    public CursorPageDto<UserDto> searchCustomers(String search, String cursor, int size) {
+        CursorPageDto<User> page = customerSearchService.search(search, cursor, size);
+        return new CursorPageDto<>(page.getItems().stream().map(UserDto::fromEntity).collect(Collectors.toList()),
+                page.getNextCursor());
     }
     
     @Transactional(readOnly = true)
@@ -106,6 +118,7 @@ public class UserService {
     public UserDto updateUser(Long id, UserDto userDto) {
         User user = findById(id);
         
+        boolean renamed = userDto.getName() != null && !userDto.getName().equals(user.getName());
         if (userDto.getName() != null) user.setName(userDto.getName());
         if (userDto.getPhone() != null) user.setPhone(userDto.getPhone());
         if (userDto.getAddress() != null) user.setAddress(userDto.getAddress());
@@ -114,7 +127,11 @@ public class UserService {
         if (userDto.getZipCode() != null) user.setZipCode(userDto.getZipCode());
         if (userDto.getCountry() != null) user.setCountry(userDto.getCountry());
         
-        return UserDto.fromEntity(userRepository.save(user));
+        User saved = userRepository.save(user);
+        if (renamed) {
+            customerSearchIndexer.index(saved);
+        }
+        return UserDto.fromEntity(saved);
     }
     
     public void updateCustomerStats(Long userId, BigDecimal orderAmount) {
@@ -128,6 +145,7 @@ public class UserService {
         User user = findById(id);
         user.setEnabled(!user.getEnabled());
         userRepository.save(user);
+        jwtPrincipalCache.setUserDisabled(id, !user.getEnabled());
     }
     
     @Transactional(readOnly = true)
@@ -3,9 +3,15 @@ package com.ecommerce.service;
 import com.ecommerce.dto.WarrantyDto;
 import com.ecommerce.entity.Order;
 import com.ecommerce.entity.OrderItem;
+import com.ecommerce.entity.SerialRegistration;
 import com.ecommerce.entity.Warranty;
 import com.ecommerce.exception.ResourceNotFoundException;
+import com.ecommerce.repository.SerialRegistryJdbcRepository;
 import com.ecommerce.repository.WarrantyRepository;
+import com.ecommerce.search.SearchKeys;
+import com.ecommerce.search.SerialRegistryIndexer;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -15,7 +21,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,6 +35,9 @@ import java.util.stream.Collectors;
 public class WarrantyService {
     
     private final WarrantyRepository warrantyRepository;
+    private final SerialRegistryJdbcRepository serialRegistryRepository;
+    private final SerialRegistryIndexer serialRegistryIndexer;
+    private final MeterRegistry meterRegistry;
     
     public WarrantyDto createWarranty(Order order, OrderItem orderItem) {
         LocalDate purchaseDate = LocalDate.now();
@@ -44,7 +56,9 @@ public class WarrantyService {
                 .claimCount(0)
                 .build();
         
-        return WarrantyDto.fromEntity(warrantyRepository.save(warranty));
+        Warranty saved = warrantyRepository.save(warranty);
+        serialRegistryIndexer.register(saved);
+        return WarrantyDto.fromEntity(saved);
     }
     
     @Transactional(readOnly = true)
@@ -65,11 +79,22 @@ public class WarrantyService {
         return WarrantyDto.fromEntity(warranty);
     }
     
+    /**
+     * The newest warranty registered under a serial number, matched
+     * regardless of case and punctuation. Registrations whose warranty was
+     * deleted or changed serial by SQL are skipped.
+     */
     @Transactional(readOnly = true)
     public WarrantyDto getWarrantyBySerialNumber(String serialNumber) {
-        Warranty warranty = warrantyRepository.findBySerialNumber(serialNumber)
+        String serialKey = SearchKeys.compactKey(serialNumber);
+        return serialRegistryRepository.findBySerialNumber(serialNumber).stream()
+                .filter(ref -> ref.getType() == SerialRegistration.RecordType.WARRANTY)
+                .map(ref -> warrantyRepository.findById(ref.getId()))
+                .flatMap(Optional::stream)
+                .filter(warranty -> SearchKeys.compactKey(warranty.getSerialNumber()).equals(serialKey))
+                .findFirst()
+                .map(WarrantyDto::fromEntity)
                 .orElseThrow(() -> new ResourceNotFoundException("Warranty", "serialNumber", serialNumber));
-        return WarrantyDto.fromEntity(warranty);
     }
     
     @Transactional(readOnly = true)
@@ -147,15 +172,17 @@ public class WarrantyService {
     }
     
     public void voidWarrantiesByOrder(Long orderId) {
-        List<Warranty> warranties = warrantyRepository.findByOrderId(orderId);
-        for (Warranty warranty : warranties) {
-            warranty.setStatus(Warranty.WarrantyStatus.VOIDED);
-            warrantyRepository.save(warranty);
-        }
+        voidWarrantiesByOrders(List.of(orderId));
+    }
+    
+    public int voidWarrantiesByOrders(Collection<Long> orderIds) {
+        return warrantyRepository.updateStatusByOrderIds(
+                orderIds, Warranty.WarrantyStatus.VOIDED, LocalDateTime.now());
     }
     
     // Scheduled task to update expired warranties
     @Scheduled(cron = "0 0 1 * * *") // Run at 1 AM every day
+    @Timed(value = "scheduled.job", extraTags = {"job", "update-expired-warranties"}, histogram = true)
     public void updateExpiredWarranties() {
         log.info("Running scheduled task to update expired warranties");
         LocalDate today = LocalDate.now();
@@ -165,6 +192,7 @@ public class WarrantyService {
             warranty.setStatus(Warranty.WarrantyStatus.EXPIRED);
             warrantyRepository.save(warranty);
         }
+        meterRegistry.counter("warranties.expired").increment(expiredWarranties.size());
         log.info("Updated {} expired warranties", expiredWarranties.size());
     }
     
@@ -0,0 +1,30 @@
+package com.ecommerce.startup;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Fast-startup mode (fastboot profile): demo data comes from a SQL fixture
+ * instead of DataLoader, and admin and dashboard beans listed under
+ * fast-boot.lazy-beans are created on first use.
+ */
+@Configuration
+@Profile("fastboot")
+public class FastBootConfig {
+
+    // Static and bound by hand: bean factory post-processors run before
+    // @ConfigurationProperties beans exist
+    @Bean
+    public static LazyBeansPostProcessor lazyBeansPostProcessor(Environment environment) {
+        List<String> lazyBeans = Binder.get(environment)
+                .bind("fast-boot.lazy-beans", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return new LazyBeansPostProcessor(lazyBeans);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures time to first request: from JVM start until the first response
+ * has been written, which is what an autoscaler waits for. Reported once
+ * in the log and as the application.first.request.time gauge next to
+ * Spring Boot's application.ready.time. Later requests only pay a field read.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicLong firstRequestMillis = new AtomicLong();
+    private volatile boolean recorded;
+    private long readyMillis;
+
+    public FirstRequestTimer(MeterRegistry meterRegistry) {
+        TimeGauge.builder("application.first.request.time", firstRequestMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time from JVM start until the first request was served")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyMillis = System.currentTimeMillis() - jvmStartMillis;
+        log.info("Application ready {} ms after JVM start", readyMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return recorded;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.currentTimeMillis() - jvmStartMillis;
+            if (firstRequestMillis.compareAndSet(0, elapsed)) {
+                recorded = true;
+                log.info("Time to first request: {} ms after JVM start ({} ms after ready), {} {}",
+                        elapsed, elapsed - readyMillis, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds the fast-boot fixture from DataLoader's sample data (run with
+ * --spring.profiles.active=fixture-export after changing DataLoader or the
+ * entities). Writes H2's multi-row INSERTs for every table, then shifts
+ * dates so the data keeps the age it had at export time, and moves each
+ * identity past the exported ids.
+ */
+@Component
+@Profile("fixture-export")
+@Slf4j
+public class FixtureExporter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationContext context;
+    private final Path output;
+
+    public FixtureExporter(JdbcTemplate jdbcTemplate,
+                           ApplicationContext context,
+                           @Value("${fixture-export.output:src/main/resources/db/fixtures/demo-data.sql}") String output) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.context = context;
+        this.output = Path.of(output);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void export() {
+        int exitCode = 0;
+        try {
+            List<String> statements = buildFixture(LocalDate.now());
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.writeString(output, String.join("\n\n", statements) + "\n");
+            log.info("Wrote {} fixture statements to {}", statements.size(), output.toAbsolutePath());
+        } catch (IOException | RuntimeException e) {
+            log.error("Fixture export failed", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    private List<String> buildFixture(LocalDate exportDate) {
+        List<String> statements = new ArrayList<>();
+        statements.add("-- Demo data for the fastboot profile, exported from DataLoader on " + exportDate + ".\n"
+                + "-- Do not edit by hand: regenerate with --spring.profiles.active=fixture-export.\n"
+                + "-- H2 only. Tables are loaded in H2's order, so foreign keys are checked afterwards.\n"
+                + "SET REFERENTIAL_INTEGRITY FALSE;");
+
+        for (String statement : jdbcTemplate.queryForList("SCRIPT COLUMNS NOPASSWORDS NOSETTINGS", String.class)) {
+            if (statement.startsWith("INSERT INTO")) {
+                statements.add(statement);
+            }
+        }
+
+        String shift = "DATEADD(DAY, DATEDIFF(DAY, DATE '" + exportDate + "', CURRENT_DATE), %s)";
+        dateColumns().forEach((table, columns) -> statements.add("UPDATE \"PUBLIC\".\"" + table + "\" SET "
+                + String.join(", ", columns.stream()
+                        .map(column -> "\"" + column + "\" = " + shift.formatted("\"" + column + "\""))
+                        .toList()) + ";"));
+
+        for (Map<String, Object> identity : jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS"
+                        + " WHERE TABLE_SCHEMA = 'PUBLIC' AND IS_IDENTITY = 'YES' ORDER BY TABLE_NAME")) {
+            String table = (String) identity.get("TABLE_NAME");
+            String column = (String) identity.get("COLUMN_NAME");
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(\"" + column + "\"), 0) FROM \"PUBLIC\".\"" + table + "\"", Long.class);
+            statements.add("ALTER TABLE \"PUBLIC\".\"" + table + "\" ALTER COLUMN \"" + column
+                    + "\" RESTART WITH " + (maxId + 1) + ";");
+        }
+
+        statements.add("SET REFERENTIAL_INTEGRITY TRUE;");
+        return statements;
+    }
+
+    private Map<String, List<String>> dateColumns() {
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS"
+                        + " WHERE TABLE_SCHEMA = 'PUBLIC' AND DATA_TYPE IN ('DATE', 'TIMESTAMP')"
+                        + " ORDER BY TABLE_NAME, ORDINAL_POSITION")) {
+            columns.computeIfAbsent((String) row.get("TABLE_NAME"), table -> new ArrayList<>())
+                    .add((String) row.get("COLUMN_NAME"));
+        }
+        return columns;
+    }
+}
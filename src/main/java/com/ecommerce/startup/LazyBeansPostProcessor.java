@@ -0,0 +1,34 @@
+package com.ecommerce.startup;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.List;
+
+/**
+ * Marks beans whose class name starts with one of the given prefixes as
+ * lazy, so they are created on first use instead of during startup. Lazy
+ * controllers still have their mappings registered; Spring MVC resolves the
+ * bean when the first matching request arrives. A lazy bean injected into
+ * an eager one is simply created with it.
+ */
+public class LazyBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> classNamePrefixes;
+
+    public LazyBeansPostProcessor(List<String> classNamePrefixes) {
+        this.classNamePrefixes = classNamePrefixes;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            String className = definition.getBeanClassName();
+            if (className != null && classNamePrefixes.stream().anyMatch(className::startsWith)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+}
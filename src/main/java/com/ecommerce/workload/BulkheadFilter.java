@@ -0,0 +1,144 @@
+package com.ecommerce.workload;
+
+import com.ecommerce.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifies each request as storefront or admin work and admits it only
+ * while its class has a free slot. Admin and analytics requests can use at
+ * most their own share of request threads, and run against their own
+ * connection pool, so a heavy export cannot starve checkout.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final String[] ADMIN_PREFIXES = {"/admin", "/dashboard", "/api/admin", "/actuator"};
+
+    private final ObjectMapper objectMapper;
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    public BulkheadFilter(WorkloadProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            bulkheads.put(workloadClass, new Bulkhead(workloadClass, properties.get(workloadClass), meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        WorkloadClass workloadClass = classify(request);
+        Bulkhead bulkhead = bulkheads.get(workloadClass);
+
+        if (!bulkhead.tryEnter()) {
+            reject(response, workloadClass);
+            return;
+        }
+
+        WorkloadClass.set(workloadClass);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WorkloadClass.clear();
+            bulkhead.exit();
+        }
+    }
+
+    static WorkloadClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : ADMIN_PREFIXES) {
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return WorkloadClass.ADMIN;
+            }
+        }
+        return WorkloadClass.STOREFRONT;
+    }
+
+    private void reject(HttpServletResponse response, WorkloadClass workloadClass) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(workloadClass == WorkloadClass.ADMIN
+                        ? "Admin workload is at capacity, please retry shortly"
+                        : "Server is busy, please retry shortly")
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static class Bulkhead {
+
+        private final Semaphore permits;
+        private final long acquireTimeoutMs;
+        private final Timer waitTimer;
+        private final Counter rejected;
+
+        Bulkhead(WorkloadClass workloadClass, WorkloadProperties.Settings settings, MeterRegistry meterRegistry) {
+            this.permits = new Semaphore(settings.getMaxConcurrent());
+            this.acquireTimeoutMs = settings.getAcquireTimeoutMs();
+            String tag = workloadClass.name().toLowerCase();
+
+            Gauge.builder("workload.bulkhead.active", permits,
+                            p -> settings.getMaxConcurrent() - p.availablePermits())
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            Gauge.builder("workload.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("workload.bulkhead.wait")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("workload.bulkhead.rejected")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+        }
+
+        boolean tryEnter() {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejected.increment();
+            }
+            return acquired;
+        }
+
+        void exit() {
+            permits.release();
+        }
+    }
+}
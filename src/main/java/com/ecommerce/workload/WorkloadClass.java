@@ -0,0 +1,50 @@
+package com.ecommerce.workload;
+
+/**
+ * Isolation classes for request handling. Each class gets its own share of
+ * request threads and its own database connection pool.
+ */
+public enum WorkloadClass {
+
+    // Shop pages, cart, checkout and customer APIs
+    STOREFRONT,
+
+    // Admin panel, analytics dashboard and admin APIs
+    ADMIN;
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Workload class of the request running on this thread; work outside a
+     * request runs as storefront unless wrapped with {@link #background}.
+     */
+    public static WorkloadClass current() {
+        WorkloadClass current = CURRENT.get();
+        return current != null ? current : STOREFRONT;
+    }
+
+    /**
+     * Wraps a scheduled job or background indexer so it runs as admin work:
+     * it then queues on the admin connection pool and never takes
+     * connections away from checkout.
+     */
+    public static Runnable background(Runnable task) {
+        return () -> {
+            WorkloadClass previous = CURRENT.get();
+            CURRENT.set(ADMIN);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    static void set(WorkloadClass workloadClass) {
+        CURRENT.set(workloadClass);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.workload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulkhead sizing per workload class, bound from the workload.* properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "workload")
+@Data
+public class WorkloadProperties {
+
+    private Settings storefront = new Settings(150, 2000, 15, 3000);
+
+    private Settings admin = new Settings(20, 500, 5, 1000);
+
+    public Settings get(WorkloadClass workloadClass) {
+        return workloadClass == WorkloadClass.ADMIN ? admin : storefront;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Settings {
+
+        // Requests of this class allowed to run at the same time
+        private int maxConcurrent;
+
+        // How long a request may wait for a free slot before getting a 503
+        private long acquireTimeoutMs;
+
+        // Size of the class's own database connection pool
+        private int poolSize;
+
+        // How long a query may wait for a connection from that pool
+        private long connectionTimeoutMs;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.workload;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands each thread a connection from the pool of its workload class, so
+ * admin queries queue on their own small pool instead of the storefront's.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final List<HikariDataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<WorkloadClass, DataSource> targets, List<HikariDataSource> pools) {
+        this.pools = pools;
+        setTargetDataSources(new HashMap<>(targets));
+        setDefaultTargetDataSource(targets.get(WorkloadClass.STOREFRONT));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadClass.current();
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,170 @@
+-- Demo data for the fastboot profile, exported from DataLoader on 2026-10-19.
+-- Do not edit by hand: regenerate with --spring.profiles.active=fixture-export.
+-- H2 only. Tables are loaded in H2's order, so foreign keys are checked afterwards.
+SET REFERENTIAL_INTEGRITY FALSE;
+
+INSERT INTO "PUBLIC"."CATEGORIES"("ACTIVE", "DISPLAY_ORDER", "CREATED_AT", "ID", "PARENT_ID", "UPDATED_AT", "DESCRIPTION", "IMAGE_URL", "NAME") VALUES
+(TRUE, 1, TIMESTAMP '2026-10-19 01:32:09.817646', 1, NULL, TIMESTAMP '2026-10-19 01:32:09.817706', 'Modern kitchen appliances for your home', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=400', 'Kitchen Appliances'),
+(TRUE, 2, TIMESTAMP '2026-10-19 01:32:09.826232', 2, NULL, TIMESTAMP '2026-10-19 01:32:09.826309', 'Essential household and grocery items', 'https://images.unsplash.com/photo-1584568694244-14fbdf83bd30?w=400', 'Household');
+
+INSERT INTO "PUBLIC"."CUSTOMER_NAME_GRAMS"("GRAM", "USER_ID") VALUES
+('  a', 1),
+(' ad', 1),
+('adm', 1),
+('dmi', 1),
+('min', 1),
+('in ', 1),
+('  u', 1),
+(' us', 1),
+('use', 1),
+('ser', 1),
+('er ', 1),
+('  r', 2),
+(' ra', 2),
+('rah', 2),
+('ahu', 2),
+('hul', 2),
+('ul ', 2),
+('  s', 2),
+(' sh', 2),
+('sha', 2),
+('har', 2),
+('arm', 2),
+('rma', 2),
+('ma ', 2),
+('  p', 3),
+(' pr', 3),
+('pri', 3),
+('riy', 3),
+('iya', 3),
+('ya ', 3),
+(' pa', 3),
+('pat', 3),
+('ate', 3),
+('tel', 3),
+('el ', 3);
+
+INSERT INTO "PUBLIC"."DISCOUNTS"("ACTIVE", "AUTO_APPLY", "DISCOUNT_VALUE", "MAXIMUM_DISCOUNT_AMOUNT", "MINIMUM_ORDER_AMOUNT", "PER_CUSTOMER_LIMIT", "USAGE_COUNT", "USAGE_LIMIT", "CREATED_AT", "ID", "UPDATED_AT", "VALID_FROM", "VALID_TO", "CODE", "CUSTOMER_SEGMENT", "DESCRIPTION", "NAME", "TYPE") VALUES
+(TRUE, FALSE, 10.00, NULL, NULL, NULL, 0, NULL, TIMESTAMP '2026-10-19 01:32:10.496374', 1, TIMESTAMP '2026-10-19 01:32:10.496413', TIMESTAMP '2026-10-19 01:32:10.494177', TIMESTAMP '2027-04-19 01:32:10.494189', 'WELCOME10', 'NEW_CUSTOMERS', '10% off for new customers', 'Welcome Discount', 'PERCENTAGE'),
+(TRUE, FALSE, 20.00, 500.00, 2000.00, NULL, 0, NULL, TIMESTAMP '2026-10-19 01:32:10.513787', 2, TIMESTAMP '2026-10-19 01:32:10.513838', TIMESTAMP '2026-10-19 01:32:10.494272', TIMESTAMP '2026-11-19 01:32:10.494278', 'SUMMER20', 'ALL', U&'20% off on orders over \20b92000', 'Summer Sale', 'PERCENTAGE'),
+(TRUE, FALSE, 200.00, NULL, 1500.00, NULL, 0, NULL, TIMESTAMP '2026-10-19 01:32:10.516492', 3, TIMESTAMP '2026-10-19 01:32:10.51653', TIMESTAMP '2026-10-19 01:32:10.494301', TIMESTAMP '2027-01-19 01:32:10.494306', 'FLAT200', 'ALL', U&'\20b9200 off on orders over \20b91500', U&'Flat \20b9200 Off', 'FIXED_AMOUNT');
+
+INSERT INTO "PUBLIC"."INVENTORY_ITEMS"("DATE_OF_PURCHASE", "HAS_MOTOR_WARRANTY", "HAS_PRODUCT_WARRANTY", "MOTOR_WARRANTY_END_DATE", "MOTOR_WARRANTY_PERIOD_MONTHS", "MOTOR_WARRANTY_START_DATE", "PRODUCT_WARRANTY_END_DATE", "PRODUCT_WARRANTY_PERIOD_MONTHS", "PRODUCT_WARRANTY_START_DATE", "CATEGORY_ID", "CREATED_AT", "ID", "UPDATED_AT", "ADDRESS", "BRAND", "CITY", "CUSTOMER_EMAIL", "CUSTOMER_NAME", "CUSTOMER_PHONE", "ITEM_DETAILS", "ITEM_ID", "MODEL", "NAME", "NOTES", "PIN_CODE", "SERIAL_NUMBER", "STATE", "STATUS") VALUES
+(DATE '2026-09-19', TRUE, TRUE, DATE '2028-09-19', 24, DATE '2026-09-19', DATE '2027-09-19', 12, DATE '2026-09-19', 1, TIMESTAMP '2026-10-19 01:32:11.245329', 1, TIMESTAMP '2026-10-19 01:32:11.245374', 'House No. 45, Sector 12', 'Kenway', 'Ajmer', 'ramesh@gmail.com', 'Ramesh Kumar', '+91 98765 12345', 'Powerful desert air cooler with honeycomb pads. Customer purchased for living room.', 'CLR-001', 'DAC-55L', 'Desert Air Cooler 55L', NULL, '305001', 'KW-CLR-2025-001', 'Rajasthan', 'ACTIVE'),
+(DATE '2026-04-22', TRUE, TRUE, DATE '2029-04-22', 36, DATE '2026-04-22', DATE '2027-04-22', 12, DATE '2026-04-22', 1, TIMESTAMP '2026-10-19 01:32:11.248628', 2, TIMESTAMP '2026-10-19 01:32:11.248664', 'B-23, Vaishali Nagar', 'Kenway', 'Jaipur', 'suresh.sharma@yahoo.com', 'Suresh Sharma', '+91 99887 65432', 'Tower cooler with remote control. Installed in bedroom.', 'CLR-002', 'TAC-35L', 'Tower Air Cooler 35L', NULL, '302012', 'KW-CLR-2024-089', 'Rajasthan', 'ACTIVE'),
+(DATE '2026-08-20', TRUE, TRUE, DATE '2028-08-20', 24, DATE '2026-08-20', DATE '2031-08-20', 60, DATE '2026-08-20', 2, TIMESTAMP '2026-10-19 01:32:11.261404', 3, TIMESTAMP '2026-10-19 01:32:11.261448', 'Flat 301, Sunrise Apartments', 'Kenway', 'Ahmedabad', 'priya.patel@gmail.com', 'Priya Patel', '+91 88888 77777', 'Premium auto-clean chimney with curved glass. Installed in modular kitchen.', 'CHM-001', 'ACH-90', 'Auto-Clean Chimney 90cm', NULL, '380015', 'KW-CHM-2025-045', 'Gujarat', 'ACTIVE'),
+(DATE '2025-11-19', TRUE, TRUE, DATE '2030-11-19', 60, DATE '2025-11-19', DATE '2026-11-18', 12, DATE '2025-11-19', 3, TIMESTAMP '2026-10-19 01:32:11.263967', 4, TIMESTAMP '2026-10-19 01:32:11.263993', 'Plot 78, Industrial Area', 'Kenway', 'Ajmer', 'anju.devi@gmail.com', 'Anju Devi', '+91 77777 66666', '3-jar mixer grinder. Heavy duty motor.', 'MXR-001', 'MG-750W', 'Mixer Grinder 750W', NULL, '305004', 'KW-MXR-2025-112', 'Rajasthan', 'ACTIVE'),
+(DATE '2025-08-19', TRUE, TRUE, DATE '2028-08-19', 36, DATE '2025-08-19', DATE '2026-08-19', 12, DATE '2025-08-19', 6, TIMESTAMP '2026-10-19 01:32:11.274914', 5, TIMESTAMP '2026-10-19 01:32:11.274948', '23, Raja Park', 'Kenway', 'Jaipur', 'vikram.singh@hotmail.com', 'Vikram Singh', '+91 66666 55555', 'High-speed ceiling fan with decorative finish.', 'FAN-001', 'CF-1400', 'Ceiling Fan 1400mm', NULL, '302004', 'KW-FAN-2024-078', 'Rajasthan', 'ACTIVE'),
+(DATE '2026-10-04', FALSE, TRUE, NULL, NULL, NULL, DATE '2028-10-04', 24, DATE '2026-10-04', 4, TIMESTAMP '2026-10-19 01:32:11.281805', 6, TIMESTAMP '2026-10-19 01:32:11.281844', '12, Civil Lines', 'Kenway', 'Ajmer', 'meena.k@gmail.com', 'Meena Kumari', '+91 55555 44444', '15L storage water heater with high-density insulation.', 'GYS-001', 'IWG-15L', 'Instant Water Geyser 15L', NULL, '305001', 'KW-GYS-2026-003', 'Rajasthan', 'ACTIVE'),
+(DATE '2026-02-19', TRUE, TRUE, DATE '2028-02-19', 24, DATE '2026-02-19', DATE '2027-02-19', 12, DATE '2026-02-19', 1, TIMESTAMP '2026-10-19 01:32:11.284268', 7, TIMESTAMP '2026-10-19 01:32:11.284297', '56, Station Road', 'Kenway', 'Ajmer', 'rajan.g@gmail.com', 'Rajan Gupta', '+91 44444 33333', 'Currently at service center for pump replacement.', 'CLR-003', 'PAC-20L', 'Personal Air Cooler 20L', 'Customer reported water pump not working. Sent to service center on 10-Jan-2026.', '305001', 'KW-CLR-2025-156', 'Rajasthan', 'UNDER_SERVICE');
+
+INSERT INTO "PUBLIC"."ITEM_CATEGORIES"("ACTIVE", "DISPLAY_ORDER", "CREATED_AT", "ID", "UPDATED_AT", "DESCRIPTION", "ICON", "NAME") VALUES
+(TRUE, 1, TIMESTAMP '2026-10-19 01:32:11.135652', 1, TIMESTAMP '2026-10-19 01:32:11.135684', 'Air coolers and desert coolers', 'bi-wind', 'Cooler'),
+(TRUE, 2, TIMESTAMP '2026-10-19 01:32:11.146846', 2, TIMESTAMP '2026-10-19 01:32:11.146891', 'Kitchen chimneys and exhaust', 'bi-cloud-haze', 'Chimney'),
+(TRUE, 3, TIMESTAMP '2026-10-19 01:32:11.157077', 3, TIMESTAMP '2026-10-19 01:32:11.157132', 'Mixer grinders and blenders', 'bi-cup-straw', 'Mixer'),
+(TRUE, 4, TIMESTAMP '2026-10-19 01:32:11.160586', 4, TIMESTAMP '2026-10-19 01:32:11.160612', 'Water heaters and geysers', 'bi-droplet-half', 'Geyser'),
+(TRUE, 5, TIMESTAMP '2026-10-19 01:32:11.172284', 5, TIMESTAMP '2026-10-19 01:32:11.172319', 'Flour mills and atta makers', 'bi-gear', 'Atta Chakki'),
+(TRUE, 6, TIMESTAMP '2026-10-19 01:32:11.179451', 6, TIMESTAMP '2026-10-19 01:32:11.179476', 'Ceiling fans, table fans, and pedestal fans', 'bi-fan', 'Fans'),
+(TRUE, 7, TIMESTAMP '2026-10-19 01:32:11.185437', 7, TIMESTAMP '2026-10-19 01:32:11.185472', 'Kitchen crockery and utensils', 'bi-cup-hot', 'Crockery');
+
+INSERT INTO "PUBLIC"."ORDER_ITEMS"("QUANTITY", "TOTAL_PRICE", "UNIT_PRICE", "ID", "ORDER_ID", "PRODUCT_ID", "PRODUCT_COLOR", "PRODUCT_NAME", "PRODUCT_SIZE", "PRODUCT_SKU") VALUES
+(1, 8999.00, 8999.00, 1, 1, 1, NULL, 'Desert Air Cooler 55L', NULL, 'KITCH-DAC-001'),
+(1, 3499.00, 3499.00, 2, 1, 8, NULL, 'Mixer Grinder 750W', NULL, 'KITCH-MXG-008'),
+(1, 15999.00, 15999.00, 3, 2, 4, NULL, 'Auto-Clean Kitchen Chimney 90cm', NULL, 'KITCH-CHM-004'),
+(1, 4599.00, 4599.00, 4, 2, 6, NULL, 'Table Top Wet Grinder 2L', NULL, 'KITCH-WTG-006'),
+(1, 1899.00, 1899.00, 5, 3, 11, NULL, 'Ceiling Fan 1200mm', NULL, 'KITCH-CFN-011'),
+(1, 899.00, 899.00, 6, 3, 20, NULL, 'Stainless Steel Tiffin Box 4 Tier', NULL, 'HOUSE-TFN-005'),
+(1, 599.00, 599.00, 7, 3, 16, NULL, 'Stainless Steel Water Bottle 1L', NULL, 'HOUSE-WTB-001'),
+(1, 2499.00, 2499.00, 8, 4, 12, NULL, 'Ceiling Fan 1400mm', NULL, 'KITCH-CFN-012');
+
+INSERT INTO "PUBLIC"."ORDERS"("DISCOUNT_AMOUNT", "SHIPPING_AMOUNT", "SUBTOTAL", "TAX_AMOUNT", "TOTAL_AMOUNT", "ACTUAL_DELIVERY", "CREATED_AT", "DISCOUNT_ID", "ESTIMATED_DELIVERY", "ID", "UPDATED_AT", "USER_ID", "CARRIER", "NOTES", "ORDER_NUMBER", "PAYMENT_METHOD", "PAYMENT_STATUS", "PAYMENT_TRANSACTION_ID", "SHIPPING_ADDRESS", "SHIPPING_CITY", "SHIPPING_COUNTRY", "SHIPPING_NAME", "SHIPPING_PHONE", "SHIPPING_STATE", "SHIPPING_ZIP_CODE", "STATUS", "TRACKING_NUMBER") VALUES
+(0.00, 0.00, 12498.00, 2249.64, 14747.64, NULL, TIMESTAMP '2026-10-19 01:32:10.679407', NULL, NULL, 1, TIMESTAMP '2026-10-19 01:32:10.679458', 2, NULL, NULL, 'ORD-B9FF65D7', NULL, 'PAID', NULL, '123 MG Road', 'Mumbai', 'India', NULL, NULL, 'Maharashtra', '400001', 'DELIVERED', NULL),
+(0.00, 0.00, 20598.00, 3707.64, 24305.64, NULL, TIMESTAMP '2026-10-19 01:32:10.824392', NULL, NULL, 2, TIMESTAMP '2026-10-19 01:32:10.824429', 3, NULL, NULL, 'ORD-401134C5', NULL, 'PAID', NULL, '456 Anna Salai', 'Chennai', 'India', NULL, NULL, 'Tamil Nadu', '600001', 'DELIVERED', NULL),
+(0.00, 99.00, 3397.00, 611.46, 4107.46, NULL, TIMESTAMP '2026-10-19 01:32:10.865536', NULL, NULL, 3, TIMESTAMP '2026-10-19 01:32:10.865565', 2, NULL, NULL, 'ORD-D614062A', NULL, 'PAID', NULL, '123 MG Road', 'Mumbai', 'India', NULL, NULL, 'Maharashtra', '400001', 'SHIPPED', 'TRK1792373530856'),
+(0.00, 0.00, 2499.00, 449.82, 2948.82, NULL, TIMESTAMP '2026-10-19 01:32:10.909374', NULL, NULL, 4, TIMESTAMP '2026-10-19 01:32:10.909408', 3, NULL, NULL, 'ORD-E53337A2', NULL, 'PAID', NULL, '456 Anna Salai', 'Chennai', 'India', NULL, NULL, 'Tamil Nadu', '600001', 'PENDING', NULL);
+
+INSERT INTO "PUBLIC"."PRODUCTS"("ACTIVE", "FEATURED", "ORIGINAL_PRICE", "PRICE", "RATING", "REVIEW_COUNT", "SOLD_COUNT", "STOCK_QUANTITY", "WARRANTY_PERIOD_MONTHS", "CATEGORY_ID", "CREATED_AT", "ID", "UPDATED_AT", "BRAND", "COLOR", "DESCRIPTION", "IMAGE_URL", "NAME", "SERIAL_NUMBER", "SIZE", "SKU") VALUES
+(TRUE, TRUE, 11999.00, 8999.00, 4.5, 342, 890, 25, 24, 1, TIMESTAMP '2026-10-19 01:32:10.152139', 1, TIMESTAMP '2026-10-19 01:32:10.152204', 'Kenway', 'White', 'Powerful desert air cooler with 55L water tank, honeycomb cooling pads, and 3-speed control. Perfect for large rooms up to 500 sq ft. Features ice chamber and castor wheels for easy mobility.', 'https://images.unsplash.com/photo-1585771724684-38269d6639fd?w=600', 'Desert Air Cooler 55L', NULL, NULL, 'KITCH-DAC-001'),
+(TRUE, FALSE, 5999.00, 4499.00, 4.3, 256, 678, 40, 12, 1, TIMESTAMP '2026-10-19 01:32:10.173898', 2, TIMESTAMP '2026-10-19 01:32:10.173955', 'Kenway', 'White', 'Compact personal air cooler ideal for small rooms and offices. 20L water tank with 4-way air deflection. Low power consumption and silent operation.', 'https://images.unsplash.com/photo-1585771724684-38269d6639fd?w=600', 'Personal Air Cooler 20L', NULL, NULL, 'KITCH-PAC-002'),
+(TRUE, TRUE, NULL, 6999.00, 4.6, 189, 456, 30, 24, 1, TIMESTAMP '2026-10-19 01:32:10.186516', 3, TIMESTAMP '2026-10-19 01:32:10.186583', 'Kenway', 'Black', 'Sleek tower design air cooler with 35L capacity. Features remote control, timer function, and 4-speed settings. Ideal for medium-sized rooms.', 'https://images.unsplash.com/photo-1585771724684-38269d6639fd?w=600', 'Tower Air Cooler 35L', NULL, NULL, 'KITCH-TAC-003'),
+(TRUE, TRUE, 22999.00, 15999.00, 4.7, 189, 456, 15, 60, 1, TIMESTAMP '2026-10-19 01:32:10.194462', 4, TIMESTAMP '2026-10-19 01:32:10.194509', 'Kenway', 'Black', U&'Premium auto-clean chimney with 1200 m\00b3/hr suction power, LED lights, and touch control panel. Filterless technology for hassle-free maintenance. Curved glass design.', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=600', 'Auto-Clean Kitchen Chimney 90cm', NULL, NULL, 'KITCH-CHM-004'),
+(TRUE, FALSE, 12999.00, 8999.00, 4.4, 267, 589, 20, 36, 1, TIMESTAMP '2026-10-19 01:32:10.206426', 5, TIMESTAMP '2026-10-19 01:32:10.206478', 'Kenway', 'Silver', U&'Stylish wall mount chimney with baffle filter. 1000 m\00b3/hr suction, push button control, and stainless steel body. Perfect for Indian cooking.', 'https://images.unsplash.com/photo-1556909114-f6e7ad7d3136?w=600', 'Wall Mount Chimney 60cm', NULL, NULL, 'KITCH-CHM-005'),
+(TRUE, TRUE, 5999.00, 4599.00, 4.6, 567, 1234, 30, 24, 1, TIMESTAMP '2026-10-19 01:32:10.213793', 6, TIMESTAMP '2026-10-19 01:32:10.213844', 'Kenway', 'White', 'Traditional stone grinding wet grinder with 2L capacity. Perfect for making idli and dosa batter. Energy efficient motor with overload protection. Stainless steel drum.', 'https://images.unsplash.com/photo-1585771724684-38269d6639fd?w=600', 'Table Top Wet Grinder 2L', NULL, NULL, 'KITCH-WTG-006'),
+(TRUE, FALSE, NULL, 5499.00, 4.5, 345, 890, 25, 24, 1, TIMESTAMP '2026-10-19 01:32:10.226107', 7, TIMESTAMP '2026-10-19 01:32:10.226159', 'Kenway', 'Red', 'Tilting wet grinder with convenient batter removal. 2L capacity with transparent lid. Suitable for idli, dosa, and vada batter preparation.', 'https://images.unsplash.com/photo-1585771724684-38269d6639fd?w=600', 'Tilting Wet Grinder 2L', NULL, NULL, 'KITCH-WTG-007'),
+(TRUE, TRUE, 4999.00, 3499.00, 4.4, 890, 2345, 50, 24, 1, TIMESTAMP '2026-10-19 01:32:10.237479', 8, TIMESTAMP '2026-10-19 01:32:10.237541', 'Kenway', 'Red', 'Powerful 750W mixer grinder with 3 stainless steel jars. Features include overload protection, anti-slip feet, and ergonomic handles. Perfect for grinding, mixing, and blending.', 'https://images.unsplash.com/photo-1570222094114-d054a817e56b?w=600', 'Mixer Grinder 750W', NULL, NULL, 'KITCH-MXG-008'),
+(TRUE, FALSE, NULL, 2499.00, 4.2, 456, 1567, 60, 24, 1, TIMESTAMP '2026-10-19 01:32:10.250047', 9, TIMESTAMP '2026-10-19 01:32:10.250098', 'Kenway', 'White', 'Compact 500W mixer grinder with 3 jars. Ideal for small families. Features rust-proof blades and shock-proof body.', 'https://images.unsplash.com/photo-1570222094114-d054a817e56b?w=600', 'Mixer Grinder 500W', NULL, NULL, 'KITCH-MXG-009');
+
+INSERT INTO "PUBLIC"."PRODUCTS"("ACTIVE", "FEATURED", "ORIGINAL_PRICE", "PRICE", "RATING", "REVIEW_COUNT", "SOLD_COUNT", "STOCK_QUANTITY", "WARRANTY_PERIOD_MONTHS", "CATEGORY_ID", "CREATED_AT", "ID", "UPDATED_AT", "BRAND", "COLOR", "DESCRIPTION", "IMAGE_URL", "NAME", "SERIAL_NUMBER", "SIZE", "SKU") VALUES
+(TRUE, FALSE, 3999.00, 2899.00, 4.5, 345, 1567, 40, 24, 1, TIMESTAMP '2026-10-19 01:32:10.257239', 10, TIMESTAMP '2026-10-19 01:32:10.257305', 'Kenway', 'Purple', 'Versatile juicer mixer grinder with fruit filter for fresh juice extraction. Includes 2 grinding jars and juicer attachment. Multi-purpose kitchen appliance.', 'https://images.unsplash.com/photo-1570222094114-d054a817e56b?w=600', 'Juicer Mixer Grinder 500W', NULL, NULL, 'KITCH-JMG-010'),
+(TRUE, FALSE, 2499.00, 1899.00, 4.3, 456, 1890, 75, 24, 1, TIMESTAMP '2026-10-19 01:32:10.267222', 11, TIMESTAMP '2026-10-19 01:32:10.267283', 'Kenway', 'Brown', 'High-speed ceiling fan with 1200mm sweep. Features include 3 blade design, double ball bearing, and rust-resistant coating. Energy efficient and silent operation.', 'https://images.unsplash.com/photo-1621873495914-845b6e5f4c87?w=600', 'Ceiling Fan 1200mm', NULL, NULL, 'KITCH-CFN-011'),
+(TRUE, TRUE, NULL, 2499.00, 4.5, 234, 890, 50, 24, 1, TIMESTAMP '2026-10-19 01:32:10.272388', 12, TIMESTAMP '2026-10-19 01:32:10.272428', 'Kenway', 'Walnut', 'Extra-large ceiling fan with 1400mm sweep for bigger rooms. High air delivery with low power consumption. Decorative design with wooden finish.', 'https://images.unsplash.com/photo-1621873495914-845b6e5f4c87?w=600', 'Ceiling Fan 1400mm', NULL, NULL, 'KITCH-CFN-012'),
+(TRUE, FALSE, NULL, 2299.00, 4.2, 234, 890, 60, 12, 1, TIMESTAMP '2026-10-19 01:32:10.283705', 13, TIMESTAMP '2026-10-19 01:32:10.283746', 'Kenway', 'White', 'Oscillating pedestal fan with adjustable height and 3-speed settings. Features quiet motor and wide angle oscillation. Perfect for living room and bedroom.', 'https://images.unsplash.com/photo-1617375407361-9815f25e5225?w=600', 'Pedestal Fan 400mm', NULL, NULL, 'KITCH-PFN-013'),
+(TRUE, FALSE, 1599.00, 1299.00, 4.1, 345, 1234, 80, 12, 1, TIMESTAMP '2026-10-19 01:32:10.29082', 14, TIMESTAMP '2026-10-19 01:32:10.290863', 'Kenway', 'Blue', 'Compact table fan with 300mm sweep. 3-speed control with powerful air throw. Lightweight and portable design.', 'https://images.unsplash.com/photo-1617375407361-9815f25e5225?w=600', 'Table Fan 300mm', NULL, NULL, 'KITCH-TFN-014'),
+(TRUE, FALSE, NULL, 1799.00, 4.3, 178, 567, 45, 12, 1, TIMESTAMP '2026-10-19 01:32:10.302768', 15, TIMESTAMP '2026-10-19 01:32:10.302823', 'Kenway', 'White', 'Space-saving wall mount fan with 450mm sweep. Remote control operation with timer function. Ideal for kitchens and small spaces.', 'https://images.unsplash.com/photo-1617375407361-9815f25e5225?w=600', 'Wall Mount Fan 450mm', NULL, NULL, 'KITCH-WFN-015'),
+(TRUE, TRUE, 899.00, 599.00, 4.6, 890, 4567, 150, 12, 2, TIMESTAMP '2026-10-19 01:32:10.310326', 16, TIMESTAMP '2026-10-19 01:32:10.310374', 'Kenway', 'Silver', 'Premium food-grade stainless steel water bottle. Double wall vacuum insulated keeps drinks cold 24hrs or hot 12hrs. Leak-proof lid with carrying loop.', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=600', 'Stainless Steel Water Bottle 1L', NULL, NULL, 'HOUSE-WTB-001'),
+(TRUE, FALSE, NULL, 799.00, 4.7, 456, 2345, 100, 6, 2, TIMESTAMP '2026-10-19 01:32:10.321929', 17, TIMESTAMP '2026-10-19 01:32:10.321976', 'Kenway', 'Copper', 'Pure copper water bottle with health benefits. Ayurvedic drinking water storage for natural purification. Lacquer coated exterior for easy maintenance.', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=600', 'Copper Water Bottle 1L', NULL, NULL, 'HOUSE-CWB-002'),
+(TRUE, FALSE, NULL, 349.00, 4.2, 567, 3456, 200, 3, 2, TIMESTAMP '2026-10-19 01:32:10.333259', 18, TIMESTAMP '2026-10-19 01:32:10.333319', 'Kenway', 'Blue', 'Set of 3 fridge water bottles with flip-top lid. Made from BPA-free food-grade plastic. Fits perfectly in refrigerator door. Easy to clean.', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=600', 'Fridge Water Bottle 1L (Set of 3)', NULL, NULL, 'HOUSE-FWB-003');
+
+INSERT INTO "PUBLIC"."PRODUCTS"("ACTIVE", "FEATURED", "ORIGINAL_PRICE", "PRICE", "RATING", "REVIEW_COUNT", "SOLD_COUNT", "STOCK_QUANTITY", "WARRANTY_PERIOD_MONTHS", "CATEGORY_ID", "CREATED_AT", "ID", "UPDATED_AT", "BRAND", "COLOR", "DESCRIPTION", "IMAGE_URL", "NAME", "SERIAL_NUMBER", "SIZE", "SKU") VALUES
+(TRUE, FALSE, NULL, 249.00, 4.4, 234, 1890, 120, 3, 2, TIMESTAMP '2026-10-19 01:32:10.336512', 19, TIMESTAMP '2026-10-19 01:32:10.336549', 'Kenway', 'Pink', 'Colorful kids water bottle with straw and carrying strap. Leak-proof design with fun cartoon prints. BPA-free and dishwasher safe.', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=600', 'Kids Water Bottle 500ml', NULL, NULL, 'HOUSE-KWB-004'),
+(TRUE, TRUE, 1299.00, 899.00, 4.8, 678, 3456, 80, 12, 2, TIMESTAMP '2026-10-19 01:32:10.34785', 20, TIMESTAMP '2026-10-19 01:32:10.347892', 'Kenway', 'Silver', 'Premium 4-tier stainless steel lunch box with insulated carry bag. Leak-proof containers perfect for office and school. Dishwasher safe and durable.', 'https://images.unsplash.com/photo-1604908176997-125f25cc6f3d?w=600', 'Stainless Steel Tiffin Box 4 Tier', NULL, NULL, 'HOUSE-TFN-005'),
+(TRUE, FALSE, NULL, 649.00, 4.5, 456, 2567, 100, 12, 2, TIMESTAMP '2026-10-19 01:32:10.357978', 21, TIMESTAMP '2026-10-19 01:32:10.358027', 'Kenway', 'Silver', 'Classic 3-tier stainless steel tiffin with locking clips. Ideal capacity for daily lunch. Comes with matching spoon and fork.', 'https://images.unsplash.com/photo-1604908176997-125f25cc6f3d?w=600', 'Stainless Steel Tiffin Box 3 Tier', NULL, NULL, 'HOUSE-TFN-006'),
+(TRUE, FALSE, NULL, 699.00, 4.5, 345, 2134, 90, 6, 2, TIMESTAMP '2026-10-19 01:32:10.36524', 22, TIMESTAMP '2026-10-19 01:32:10.365296', 'Kenway', 'Blue', '3-container insulated lunch box with thermal carry bag. Keeps food hot for 4+ hours. BPA-free plastic containers with steel inner.', 'https://images.unsplash.com/photo-1604908176997-125f25cc6f3d?w=600', 'Insulated Lunch Box with Bag', NULL, NULL, 'HOUSE-TFN-007'),
+(TRUE, FALSE, 599.00, 449.00, 4.6, 289, 1678, 110, 6, 2, TIMESTAMP '2026-10-19 01:32:10.371126', 23, TIMESTAMP '2026-10-19 01:32:10.371168', 'Kenway', 'Red', 'Cute kids lunch box set with matching water bottle. Multiple compartments for different food items. Easy-grip handle and leak-proof design.', 'https://images.unsplash.com/photo-1604908176997-125f25cc6f3d?w=600', 'Kids Lunch Box with Bottle', NULL, NULL, 'HOUSE-TFN-008'),
+(TRUE, FALSE, NULL, 299.00, 4.2, 234, 5678, 200, 3, 2, TIMESTAMP '2026-10-19 01:32:10.382288', 24, TIMESTAMP '2026-10-19 01:32:10.382336', 'Kenway', 'Blue', 'Durable plastic bucket with comfortable grip handle. Comes with matching mug. Perfect for bathroom and household use. Unbreakable material.', 'https://images.unsplash.com/photo-1584568694244-14fbdf83bd30?w=600', 'Plastic Bucket 20L with Mug', NULL, NULL, 'HOUSE-BKT-009'),
+(TRUE, TRUE, 799.00, 599.00, 4.4, 156, 1890, 120, 6, 2, TIMESTAMP '2026-10-19 01:32:10.38958', 25, TIMESTAMP '2026-10-19 01:32:10.389629', 'Kenway', 'Green', 'Set of 3 premium quality buckets - 25L, 18L, and 12L. Made from virgin plastic with sturdy handles. Available in vibrant colors.', 'https://images.unsplash.com/photo-1584568694244-14fbdf83bd30?w=600', 'Premium Bucket Set (3 Pieces)', NULL, NULL, 'HOUSE-BKT-010'),
+(TRUE, FALSE, NULL, 449.00, 4.3, 178, 2345, 150, 3, 2, TIMESTAMP '2026-10-19 01:32:10.392496', 26, TIMESTAMP '2026-10-19 01:32:10.392529', 'Kenway', 'Pink', 'Compact bathroom bucket with matching stool and mug. Space-saving design. Anti-skid base for safety.', 'https://images.unsplash.com/photo-1584568694244-14fbdf83bd30?w=600', 'Bathroom Bucket 16L with Stool', NULL, NULL, 'HOUSE-BKT-011'),
+(TRUE, FALSE, 1599.00, 1199.00, 4.5, 567, 1456, 70, 6, 2, TIMESTAMP '2026-10-19 01:32:10.404708', 27, TIMESTAMP '2026-10-19 01:32:10.404754', 'Kenway', 'Blue', U&'Floor cleaning mop bucket with squeeze wringer. 360\00b0 rotating mop head with microfiber pads. Includes 2 refill mop heads.', 'https://images.unsplash.com/photo-1584568694244-14fbdf83bd30?w=600', 'Mop Bucket with Wringer', NULL, NULL, 'HOUSE-MOP-012');
+
+INSERT INTO "PUBLIC"."USERS"("ENABLED", "LIFETIME_SPENT", "TOTAL_ORDERS", "CREATED_AT", "ID", "UPDATED_AT", "PHONE_KEY", "ADDRESS", "CITY", "COUNTRY", "EMAIL", "EMAIL_KEY", "NAME", "NAME_KEY", "PASSWORD", "PHONE", "ROLE", "STATE", "ZIP_CODE") VALUES
+(TRUE, 0.00, 0, TIMESTAMP '2026-10-19 01:32:08.94625', 1, TIMESTAMP '2026-10-19 01:32:08.946365', '9876543210', NULL, NULL, NULL, 'admin@kenway.com', 'admin@kenway.com', 'Admin User', 'admin user', '$2a$10$/Kvy4fkScSvEgDBa.3r19e8k0VVSYB6ysyLRvrDeniYGiwN0s5nRu', '+91 98765 43210', 'ADMIN', NULL, NULL),
+(TRUE, 15499.00, 5, TIMESTAMP '2026-10-19 01:32:09.733611', 2, TIMESTAMP '2026-10-19 01:32:09.733679', '9876543211', '123 MG Road', 'Mumbai', 'India', 'rahul@example.com', 'rahul@example.com', 'Rahul Sharma', 'rahul sharma', '$2a$10$dPl4.1KGgeET/a8alpcwiecKP4IhW8x7BLB.EkDTr5J.KOaFtHIQ6', '+91 98765 43211', 'CUSTOMER', 'Maharashtra', '400001'),
+(TRUE, 28999.00, 8, TIMESTAMP '2026-10-19 01:32:09.743268', 3, TIMESTAMP '2026-10-19 01:32:09.743317', '9876543212', '456 Anna Salai', 'Chennai', 'India', 'priya@example.com', 'priya@example.com', 'Priya Patel', 'priya patel', '$2a$10$dad6oQO27kOAo5NEevczQ.Tcy5wZ9HmuMgUfB7msusSFMmO7ySNvK', '+91 98765 43212', 'CUSTOMER', 'Tamil Nadu', '600001');
+
+INSERT INTO "PUBLIC"."WARRANTIES"("CLAIM_COUNT", "CLAIM_FILED", "PURCHASE_DATE", "WARRANTY_END_DATE", "WARRANTY_START_DATE", "CREATED_AT", "ID", "LAST_CLAIM_DATE", "ORDER_ID", "PRODUCT_ID", "UPDATED_AT", "USER_ID", "NOTES", "SERIAL_NUMBER", "STATUS", "WARRANTY_NUMBER") VALUES
+(NULL, FALSE, DATE '2026-09-04', DATE '2028-09-04', DATE '2026-09-04', TIMESTAMP '2026-10-19 01:32:11.040045', 1, NULL, 1, 1, TIMESTAMP '2026-10-19 01:32:11.04008', 2, NULL, 'SN-3C7E8CEF-827', 'ACTIVE', 'WRN-4F58977B'),
+(NULL, FALSE, DATE '2026-09-04', DATE '2028-09-04', DATE '2026-09-04', TIMESTAMP '2026-10-19 01:32:11.056213', 2, NULL, 1, 8, TIMESTAMP '2026-10-19 01:32:11.056246', 2, NULL, 'SN-16A69DE3-930', 'ACTIVE', 'WRN-9A6865E2'),
+(NULL, FALSE, DATE '2026-09-19', DATE '2031-09-19', DATE '2026-09-19', TIMESTAMP '2026-10-19 01:32:11.07306', 3, NULL, 2, 4, TIMESTAMP '2026-10-19 01:32:11.073114', 3, NULL, 'SN-3F13151D-204', 'ACTIVE', 'WRN-73552888'),
+(NULL, FALSE, DATE '2026-09-19', DATE '2028-09-19', DATE '2026-09-19', TIMESTAMP '2026-10-19 01:32:11.084961', 4, NULL, 2, 6, TIMESTAMP '2026-10-19 01:32:11.085008', 3, NULL, 'SN-EE1FC505-17D', 'ACTIVE', 'WRN-DD38B132'),
+(NULL, FALSE, DATE '2025-11-03', DATE '2026-11-03', DATE '2025-11-03', TIMESTAMP '2026-10-19 01:32:11.098378', 5, NULL, NULL, 6, TIMESTAMP '2026-10-19 01:32:11.098411', 2, NULL, 'SN-FC06DA71-6AA', 'ACTIVE', 'WRN-872037C3'),
+(NULL, FALSE, DATE '2025-10-24', DATE '2026-10-24', DATE '2025-10-24', TIMESTAMP '2026-10-19 01:32:11.109968', 6, NULL, NULL, 7, TIMESTAMP '2026-10-19 01:32:11.110006', 3, NULL, 'SN-B38178BD-B86', 'ACTIVE', 'WRN-056A5066');
+
+UPDATE "PUBLIC"."CART_ITEMS" SET "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+UPDATE "PUBLIC"."CATEGORIES" SET "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+UPDATE "PUBLIC"."DISCOUNTS" SET "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT"), "VALID_FROM" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "VALID_FROM"), "VALID_TO" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "VALID_TO");
+
+UPDATE "PUBLIC"."INVENTORY_ITEMS" SET "DATE_OF_PURCHASE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "DATE_OF_PURCHASE"), "MOTOR_WARRANTY_END_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "MOTOR_WARRANTY_END_DATE"), "MOTOR_WARRANTY_START_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "MOTOR_WARRANTY_START_DATE"), "PRODUCT_WARRANTY_END_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "PRODUCT_WARRANTY_END_DATE"), "PRODUCT_WARRANTY_START_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "PRODUCT_WARRANTY_START_DATE"), "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+UPDATE "PUBLIC"."ITEM_CATEGORIES" SET "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+UPDATE "PUBLIC"."ORDERS" SET "ACTUAL_DELIVERY" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "ACTUAL_DELIVERY"), "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "ESTIMATED_DELIVERY" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "ESTIMATED_DELIVERY"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+UPDATE "PUBLIC"."PRODUCTS" SET "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+UPDATE "PUBLIC"."USERS" SET "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+UPDATE "PUBLIC"."WARRANTIES" SET "PURCHASE_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "PURCHASE_DATE"), "WARRANTY_END_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "WARRANTY_END_DATE"), "WARRANTY_START_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "WARRANTY_START_DATE"), "CREATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "CREATED_AT"), "LAST_CLAIM_DATE" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "LAST_CLAIM_DATE"), "UPDATED_AT" = DATEADD(DAY, DATEDIFF(DAY, DATE '2026-10-19', CURRENT_DATE), "UPDATED_AT");
+
+ALTER TABLE "PUBLIC"."CART_ITEMS" ALTER COLUMN "ID" RESTART WITH 1;
+
+ALTER TABLE "PUBLIC"."CATEGORIES" ALTER COLUMN "ID" RESTART WITH 3;
+
+ALTER TABLE "PUBLIC"."DISCOUNTS" ALTER COLUMN "ID" RESTART WITH 4;
+
+ALTER TABLE "PUBLIC"."INVENTORY_ITEMS" ALTER COLUMN "ID" RESTART WITH 8;
+
+ALTER TABLE "PUBLIC"."ITEM_CATEGORIES" ALTER COLUMN "ID" RESTART WITH 8;
+
+ALTER TABLE "PUBLIC"."ORDERS" ALTER COLUMN "ID" RESTART WITH 5;
+
+ALTER TABLE "PUBLIC"."ORDER_ITEMS" ALTER COLUMN "ID" RESTART WITH 9;
+
+ALTER TABLE "PUBLIC"."PRODUCTS" ALTER COLUMN "ID" RESTART WITH 28;
+
+ALTER TABLE "PUBLIC"."USERS" ALTER COLUMN "ID" RESTART WITH 4;
+
+ALTER TABLE "PUBLIC"."WARRANTIES" ALTER COLUMN "ID" RESTART WITH 7;
+
+SET REFERENTIAL_INTEGRITY TRUE;
@@ -84,6 +84,66 @@ function showNotification(message, type = 'info') {
     }, 5000);
 }
 
+// Live admin event feed (Server-Sent Events over fetch so the JWT header can be sent).
+// handlers maps event names (ORDER_CREATED, PAYMENT_STATUS, ORDER_CANCELLED, LOW_STOCK,
+// DROPPED, CONNECTED) to callbacks receiving the parsed data. Reconnects with backoff.
+function subscribeAdminEvents(handlers) {
+    let retryDelay = 1000;
+    
+    async function connect() {
+        const token = getToken();
+        if (!token) return;
+        
+        try {
+            const response = await fetch('/api/admin/events', {
+                headers: { 'Authorization': `Bearer ${token}`, 'Accept': 'text/event-stream' }
+            });
+            if (response.status === 401 || response.status === 403) return;
+            if (!response.ok || !response.body) throw new Error('Event stream unavailable');
+            
+            retryDelay = 1000;
+            const reader = response.body.getReader();
+            const decoder = new TextDecoder();
+            let buffer = '';
+            
+            while (true) {
+                const { value, done } = await reader.read();
+                if (done) break;
+                buffer += decoder.decode(value, { stream: true });
+                
+                let boundary;
+                while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                    dispatchAdminEvent(buffer.substring(0, boundary), handlers);
+                    buffer = buffer.substring(boundary + 2);
+                }
+            }
+        } catch (error) {
+            console.error('Admin event stream error:', error);
+        }
+        
+        setTimeout(connect, retryDelay);
+        retryDelay = Math.min(retryDelay * 2, 30000);
+    }
+    
+    connect();
+}
+
+function dispatchAdminEvent(block, handlers) {
+    let name = 'message';
+    const data = [];
+    block.split('\n').forEach(line => {
+        if (line.startsWith('event:')) name = line.substring(6).trim();
+        else if (line.startsWith('data:')) data.push(line.substring(5));
+    });
+    if (data.length === 0 || !handlers[name]) return;
+    
+    try {
+        handlers[name](JSON.parse(data.join('\n')));
+    } catch (error) {
+        console.error('Error handling admin event ' + name + ':', error);
+    }
+}
+
 // Confirm action
 function confirmAction(message) {
     return confirm(message);
@@ -19,6 +19,29 @@ function getCurrentUser() {
     return user ? JSON.parse(user) : null;
 }
 
+// Get signed guest cart token (anonymous shoppers)
+function getGuestCartToken() {
+    return localStorage.getItem('guestCart');
+}
+
+// Call the guest cart API and store the refreshed cart token
+async function guestCartCall(endpoint, method = 'GET') {
+    const headers = {};
+    const guestCart = getGuestCartToken();
+    if (guestCart) {
+        headers['X-Guest-Cart'] = guestCart;
+    }
+    
+    const response = await fetch(`${API_BASE}/api/guest-cart${endpoint}`, { method, headers });
+    const data = await response.json();
+    if (!response.ok) {
+        throw new Error(data.message || 'Request failed');
+    }
+    
+    localStorage.setItem('guestCart', data.token);
+    return data;
+}
+
 // Logout
 function logout() {
     localStorage.removeItem('token');
@@ -65,8 +88,13 @@ async function apiCall(endpoint, method = 'GET', data = null) {
 // Add to Cart
 async function addToCart(productId, quantity = 1) {
     if (!isLoggedIn()) {
-        showToast('Please login to add items to cart', 'warning');
-        setTimeout(() => window.location.href = '/login', 1500);
+        try {
+            await guestCartCall(`/add?productId=${productId}&quantity=${quantity}`, 'POST');
+            showToast('Added to cart!', 'success');
+            updateCartCount();
+        } catch (error) {
+            showToast(error.message || 'Failed to add to cart', 'error');
+        }
         return;
     }
     
@@ -85,7 +113,16 @@ async function updateCartCount() {
     if (!badge) return;
     
     if (!isLoggedIn()) {
-        badge.textContent = '0';
+        if (!getGuestCartToken()) {
+            badge.textContent = '0';
+            return;
+        }
+        try {
+            const data = await guestCartCall('');
+            badge.textContent = data.itemCount || 0;
+        } catch (error) {
+            badge.textContent = '0';
+        }
         return;
     }
     